@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Servicio de interface que garantiza la validacion de los datos de una nueva
+ * instancia sin bloquear el hilo que realiza la validacion.
+ * <p>
+ * {@code AsyncBuilderValidator} es utilizada cuando la validacion de una nueva
+ * instancia requiere consultar recursos que bloquearian al hilo actual. La
+ * validacion devuelve un objeto {@code CompletionStage} que se completa cuando
+ * la validacion termina y que se completa de forma excepcional con una
+ * excepcion {@link InstanceBuildException} si la instancia no es valida.
+ * </p>
+ * <p>
+ * El metodo {@link BuilderPattern#buildAsync()} compone la validacion sin
+ * bloquear el hilo actual, mientras que el metodo {@link BuilderPattern#build()}
+ * espera por el resultado de la validacion.
+ * </p>
+ *
+ * @author ldelpino
+ * @param <T> el tipo de dato de la instancia a validar.
+ * @see io.github.ldelpino.libs.builderlibrary.BuilderValidator
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@FunctionalInterface
+public interface AsyncBuilderValidator<T> extends BuilderValidator<T> {
+
+    /**
+     * Realiza el proceso de validacion de los datos de una nueva instancia sin
+     * bloquear el hilo actual.
+     *
+     * @param value el nuevo valor de la instancia.
+     * @return la etapa que se completa cuando termina la validacion, de forma
+     * excepcional con una excepcion {@link InstanceBuildException} si la
+     * instancia no es valida.
+     */
+    public CompletionStage<Void> validateAsync(T value);
+
+    /**
+     * Realiza el proceso de validacion de los datos de una nueva instancia,
+     * esperando por el resultado de la validacion asincrona.
+     *
+     * @param value el nuevo valor de la instancia.
+     * @throws InstanceBuildException si ocurre un error en la validacion de los
+     * datos y por tanto la nueva instancia no debe ser creada.
+     */
+    @Override
+    public default void validate(T value) throws InstanceBuildException {
+        try {
+            validateAsync(value).toCompletableFuture().join();
+        } catch (CompletionException | CancellationException ex) {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof InstanceBuildException) {
+                throw (InstanceBuildException) cause;
+            }
+            throw new InstanceBuildException("Error, asynchronous validation failed.", cause);
+        }
+    }
+
+    /**
+     * Devuelve un validador asincrono a partir de un validador sincrono, la
+     * validacion se realiza en el hilo que solicita la validacion.
+     *
+     * @param <T> el tipo de dato de la instancia a validar.
+     * @param validator el validador sincrono.
+     * @return el validador asincrono, el mismo validador si ya es asincrono.
+     */
+    public static <T> AsyncBuilderValidator<T> of(BuilderValidator<T> validator) {
+        if (validator instanceof AsyncBuilderValidator) {
+            return (AsyncBuilderValidator<T>) validator;
+        }
+        return value -> {
+            try {
+                validator.validate(value);
+                return CompletableFuture.completedFuture(null);
+            } catch (InstanceBuildException | RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        };
+    }
+}
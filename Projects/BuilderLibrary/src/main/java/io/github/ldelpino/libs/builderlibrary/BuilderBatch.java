@@ -0,0 +1,577 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary;
+
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.DoubleBatchValidator;
+import io.github.ldelpino.libs.builderlibrary.property.IntBatchValidator;
+import io.github.ldelpino.libs.builderlibrary.property.InvalidPropertyException;
+import io.github.ldelpino.libs.builderlibrary.property.LongBatchValidator;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyValidator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Clase que permite la construccion de grandes cantidades de instancias a
+ * partir de propiedades almacenadas por columnas.
+ * <p>
+ * Cuando es necesario crear una gran cantidad de instancias, crear un objeto
+ * {@link BuilderPattern} por cada instancia implica crear un mapa y un objeto
+ * {@link BuilderProperty} por cada una de las propiedades de cada fila.
+ * {@code BuilderBatch} almacena las propiedades de todas las filas por
+ * columnas, las columnas numericas se almacenan en arreglos de tipos primitivos
+ * y la llave y el validador de cada columna se almacenan una unica vez para
+ * todas las filas.
+ * </p>
+ * <p>
+ * Las columnas se validan completas con el validador de cada columna a traves
+ * del metodo {@link #validate()} y las instancias se crean a partir del objeto
+ * {@code BuilderPattern} devuelto por la fabrica del lote, ya sea para una fila
+ * en especifico o para todas las filas del lote. Las columnas numericas que no
+ * han sido establecidas en una fila tienen el valor cero.
+ * </p>
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ * @param <T> el tipo de dato de las instancias a crear.
+ */
+public class BuilderBatch<T> {
+
+    private final Supplier<? extends BuilderPattern<T>> factory;
+
+    private final Map<String, Column> columnIndex;
+
+    private final List<Column> columns;
+
+    private int size;
+
+    private int capacity;
+
+    /**
+     * Construye un nuevo lote a partir de la fabrica de los constructores de
+     * instancias.
+     *
+     * @param factory la fabrica que devuelve un nuevo constructor de
+     * instancias vacio para cada instancia a crear.
+     */
+    public BuilderBatch(Supplier<? extends BuilderPattern<T>> factory) {
+        this(factory, 16);
+    }
+
+    /**
+     * Construye un nuevo lote a partir de la fabrica de los constructores de
+     * instancias y la cantidad inicial de filas reservadas.
+     *
+     * @param factory la fabrica que devuelve un nuevo constructor de
+     * instancias vacio para cada instancia a crear.
+     * @param initialCapacity la cantidad de filas a reservar inicialmente.
+     */
+    public BuilderBatch(Supplier<? extends BuilderPattern<T>> factory, int initialCapacity) {
+        if (factory == null) {
+            throw new IllegalArgumentException("The builder factory cannot be null.");
+        }
+        this.factory = factory;
+        this.columnIndex = new HashMap<>();
+        this.columns = new ArrayList<>();
+        this.size = 0;
+        this.capacity = Math.max(initialCapacity, 1);
+    }
+
+    /**
+     * Agrega una nueva columna de valores enteros.
+     *
+     * @param key la llave de la propiedad de la columna.
+     * @param validator el validador de los valores de la columna o
+     * {@code null} si no se validan.
+     */
+    public void addIntColumn(String key, PropertyValidator<? super Integer> validator) {
+        addColumn(new IntColumn(key, validator, capacity));
+    }
+
+    /**
+     * Agrega una nueva columna de valores enteros largos.
+     *
+     * @param key la llave de la propiedad de la columna.
+     * @param validator el validador de los valores de la columna o
+     * {@code null} si no se validan.
+     */
+    public void addLongColumn(String key, PropertyValidator<? super Long> validator) {
+        addColumn(new LongColumn(key, validator, capacity));
+    }
+
+    /**
+     * Agrega una nueva columna de valores decimales.
+     *
+     * @param key la llave de la propiedad de la columna.
+     * @param validator el validador de los valores de la columna o
+     * {@code null} si no se validan.
+     */
+    public void addDoubleColumn(String key, PropertyValidator<? super Double> validator) {
+        addColumn(new DoubleColumn(key, validator, capacity));
+    }
+
+    /**
+     * Agrega una nueva columna de objetos.
+     *
+     * @param key la llave de la propiedad de la columna.
+     * @param validator el validador de los valores de la columna o
+     * {@code null} si no se validan.
+     */
+    public void addColumn(String key, PropertyValidator<Object> validator) {
+        addColumn(new ObjectColumn(key, validator, capacity));
+    }
+
+    private void addColumn(Column column) {
+        if (column.key == null || column.key.isEmpty()) {
+            throw new IllegalArgumentException("The column key cannot be null or empty.");
+        }
+        if (columnIndex.containsKey(column.key)) {
+            throw new IllegalArgumentException("The column key already exist: " + column.key);
+        }
+        columnIndex.put(column.key, column);
+        columns.add(column);
+    }
+
+    /**
+     * Devuelve una lista inmodificable con las llaves de las columnas del
+     * lote.
+     *
+     * @return las llaves de las columnas en el orden en que fueron agregadas.
+     */
+    public List<String> getColumnKeys() {
+        List<String> keys = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            keys.add(column.key);
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Devuelve la cantidad de filas del lote.
+     *
+     * @return la cantidad de filas agregadas.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Agrega una nueva fila vacia al lote.
+     *
+     * @return el indice de la nueva fila.
+     */
+    public int addRow() {
+        if (size == capacity) {
+            capacity = capacity + (capacity >> 1) + 1;
+            for (Column column : columns) {
+                column.grow(capacity);
+            }
+        }
+        return size++;
+    }
+
+    /**
+     * Establece el valor entero de una columna en una fila.
+     *
+     * @param row el indice de la fila.
+     * @param key la llave de la columna de valores enteros.
+     * @param value el nuevo valor.
+     */
+    public void setInt(int row, String key, int value) {
+        column(key, IntColumn.class).values[checkRow(row)] = value;
+    }
+
+    /**
+     * Establece el valor entero largo de una columna en una fila.
+     *
+     * @param row el indice de la fila.
+     * @param key la llave de la columna de valores enteros largos.
+     * @param value el nuevo valor.
+     */
+    public void setLong(int row, String key, long value) {
+        column(key, LongColumn.class).values[checkRow(row)] = value;
+    }
+
+    /**
+     * Establece el valor decimal de una columna en una fila.
+     *
+     * @param row el indice de la fila.
+     * @param key la llave de la columna de valores decimales.
+     * @param value el nuevo valor.
+     */
+    public void setDouble(int row, String key, double value) {
+        column(key, DoubleColumn.class).values[checkRow(row)] = value;
+    }
+
+    /**
+     * Establece el valor de una columna en una fila, si la columna es numerica
+     * el valor es convertido al tipo primitivo de la columna.
+     *
+     * @param row el indice de la fila.
+     * @param key la llave de la columna.
+     * @param value el nuevo valor.
+     */
+    public void setValue(int row, String key, Object value) {
+        column(key, Column.class).set(checkRow(row), value);
+    }
+
+    /**
+     * Devuelve el valor entero de una columna en una fila.
+     *
+     * @param row el indice de la fila.
+     * @param key la llave de la columna de valores enteros.
+     * @return el valor de la columna en la fila.
+     */
+    public int getInt(int row, String key) {
+        return column(key, IntColumn.class).values[checkRow(row)];
+    }
+
+    /**
+     * Devuelve el valor entero largo de una columna en una fila.
+     *
+     * @param row el indice de la fila.
+     * @param key la llave de la columna de valores enteros largos.
+     * @return el valor de la columna en la fila.
+     */
+    public long getLong(int row, String key) {
+        return column(key, LongColumn.class).values[checkRow(row)];
+    }
+
+    /**
+     * Devuelve el valor decimal de una columna en una fila.
+     *
+     * @param row el indice de la fila.
+     * @param key la llave de la columna de valores decimales.
+     * @return el valor de la columna en la fila.
+     */
+    public double getDouble(int row, String key) {
+        return column(key, DoubleColumn.class).values[checkRow(row)];
+    }
+
+    /**
+     * Devuelve el valor de una columna en una fila.
+     *
+     * @param row el indice de la fila.
+     * @param key la llave de la columna.
+     * @return el valor de la columna en la fila.
+     */
+    public Object getValue(int row, String key) {
+        return column(key, Column.class).get(checkRow(row));
+    }
+
+    /**
+     * Realiza el proceso de validacion de todas las filas del lote, columna a
+     * columna, con el validador de cada columna.
+     *
+     * @throws InvalidPropertyException si el valor de una o varias filas no es
+     * valido, los errores adicionales se agregan como excepciones suprimidas
+     * del primer error.
+     */
+    public void validate() throws InvalidPropertyException {
+        InvalidPropertyException error = null;
+        for (Column column : columns) {
+            error = column.validate(0, size, error);
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Valida y construye la instancia de una fila del lote.
+     *
+     * @param row el indice de la fila.
+     * @return la instancia creada a partir de los valores de la fila.
+     * @throws InstanceBuildException si el valor de alguna columna no es valido
+     * o si ocurre un error durante la creacion de la instancia.
+     */
+    public T build(int row) throws InstanceBuildException {
+        checkRow(row);
+        InvalidPropertyException error = null;
+        for (Column column : columns) {
+            error = column.validate(row, row + 1, error);
+        }
+        if (error != null) {
+            throw new InstanceBuildException("Error, invalid row " + row + ".", error);
+        }
+        return materialize(row);
+    }
+
+    /**
+     * Valida todas las filas del lote y construye las instancias de cada una
+     * de ellas.
+     *
+     * @return la lista de instancias creadas en el orden de las filas.
+     * @throws InstanceBuildException si el valor de alguna columna no es valido
+     * o si ocurre un error durante la creacion de alguna instancia.
+     */
+    public List<T> buildAll() throws InstanceBuildException {
+        try {
+            validate();
+        } catch (InvalidPropertyException ex) {
+            throw new InstanceBuildException("Error, invalid batch.", ex);
+        }
+        List<T> instances = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            instances.add(materialize(row));
+        }
+        return instances;
+    }
+
+    /**
+     * Crea la instancia de una fila ya validada del lote.
+     *
+     * @param row el indice de la fila.
+     * @return la instancia creada.
+     * @throws InstanceBuildException si ocurre un error durante la creacion de
+     * la instancia.
+     */
+    private T materialize(int row) throws InstanceBuildException {
+        BuilderPattern<T> builder = factory.get();
+        try {
+            for (Column column : columns) {
+                builder.putProperty(new BuilderProperty<>(column.key, column.get(row)));
+            }
+        } catch (IOException ex) {
+            throw new InstanceBuildException("Error, cannot load row " + row + ".", ex);
+        }
+        return builder.build();
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+        return row;
+    }
+
+    private <C extends Column> C column(String key, Class<C> type) {
+        Column column = columnIndex.get(key);
+        if (column == null) {
+            throw new IllegalArgumentException("The column does not exist: " + key);
+        }
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException("The column " + key + " is not of type "
+                    + type.getSimpleName());
+        }
+        return type.cast(column);
+    }
+
+    /**
+     * Columna del lote que almacena la llave, el validador y los valores de
+     * una propiedad para todas las filas.
+     */
+    private abstract static class Column {
+
+        final String key;
+
+        final PropertyValidator<Object> validator;
+
+        @SuppressWarnings("unchecked")
+        Column(String key, PropertyValidator<?> validator) {
+            this.key = key;
+            this.validator = (PropertyValidator<Object>) validator;
+        }
+
+        abstract void grow(int capacity);
+
+        abstract Object get(int row);
+
+        abstract void set(int row, Object value);
+
+        InvalidPropertyException validate(int from, int to, InvalidPropertyException error) {
+            if (validator == null) {
+                return error;
+            }
+            for (int row = from; row < to; row++) {
+                try {
+                    validator.validate(get(row));
+                } catch (InvalidPropertyException ex) {
+                    error = addFailure(error, row, ex);
+                }
+            }
+            return error;
+        }
+
+        /**
+         * Agrega las fallas de las filas no validas obtenidas por un validador
+         * de arreglos primitivos, la excepcion de cada fila se obtiene
+         * validando nuevamente solo dicha fila.
+         */
+        InvalidPropertyException addFailures(int[] rows, InvalidPropertyException error) {
+            for (int row : rows) {
+                try {
+                    validator.validate(get(row));
+                } catch (InvalidPropertyException ex) {
+                    error = addFailure(error, row, ex);
+                }
+            }
+            return error;
+        }
+
+        InvalidPropertyException addFailure(InvalidPropertyException error, int row,
+                InvalidPropertyException cause) {
+            InvalidPropertyException failure = new InvalidPropertyException(
+                    "Error, invalid property " + key + " at row " + row + ".", cause);
+            if (error == null) {
+                return failure;
+            }
+            error.addSuppressed(failure);
+            return error;
+        }
+    }
+
+    private static final class IntColumn extends Column {
+
+        final IntBatchValidator batch;
+
+        int[] values;
+
+        IntColumn(String key, PropertyValidator<?> validator, int capacity) {
+            super(key, validator);
+            this.batch = validator instanceof IntBatchValidator ? (IntBatchValidator) validator : null;
+            this.values = new int[capacity];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        InvalidPropertyException validate(int from, int to, InvalidPropertyException error) {
+            if (batch != null) {
+                return addFailures(batch.validateBatch(values, from, to), error);
+            }
+            return super.validate(from, to, error);
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = value != null ? ((Number) value).intValue() : 0;
+        }
+    }
+
+    private static final class LongColumn extends Column {
+
+        final LongBatchValidator batch;
+
+        long[] values;
+
+        LongColumn(String key, PropertyValidator<?> validator, int capacity) {
+            super(key, validator);
+            this.batch = validator instanceof LongBatchValidator ? (LongBatchValidator) validator : null;
+            this.values = new long[capacity];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        InvalidPropertyException validate(int from, int to, InvalidPropertyException error) {
+            if (batch != null) {
+                return addFailures(batch.validateBatch(values, from, to), error);
+            }
+            return super.validate(from, to, error);
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = value != null ? ((Number) value).longValue() : 0L;
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+
+        final DoubleBatchValidator batch;
+
+        double[] values;
+
+        DoubleColumn(String key, PropertyValidator<?> validator, int capacity) {
+            super(key, validator);
+            this.batch = validator instanceof DoubleBatchValidator ? (DoubleBatchValidator) validator : null;
+            this.values = new double[capacity];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        InvalidPropertyException validate(int from, int to, InvalidPropertyException error) {
+            if (batch != null) {
+                return addFailures(batch.validateBatch(values, from, to), error);
+            }
+            return super.validate(from, to, error);
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = value != null ? ((Number) value).doubleValue() : 0D;
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+
+        Object[] values;
+
+        ObjectColumn(String key, PropertyValidator<?> validator, int capacity) {
+            super(key, validator);
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = value;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary;
+
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Clase que permite la construccion de un grafo de constructores de instancias
+ * anidados.
+ * <p>
+ * Cuando el valor de una propiedad de un objeto {@link BuilderInterface} es a
+ * su vez otro objeto {@code BuilderInterface}, el constructor anidado debe ser
+ * construido antes que el constructor que lo contiene. {@code BuilderGraph}
+ * recorre las propiedades de los constructores a partir del constructor raiz,
+ * establece las dependencias entre ellos como un grafo dirigido aciclico y
+ * construye en paralelo los constructores que no dependen entre si.
+ * </p>
+ * <p>
+ * Un constructor compartido por varios constructores del grafo se construye
+ * una unica vez y su instancia es reutilizada por todos ellos. Si el grafo
+ * contiene un ciclo la construccion no se realiza y se lanza una excepcion
+ * {@link InstanceBuildException}. Los constructores que heredan de
+ * {@link BuilderPattern} obtienen las instancias de sus constructores anidados
+ * a partir del metodo {@link BuilderPattern#getBuiltValue(java.lang.String)}.
+ * </p>
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ * @param <T> el tipo de dato de la instancia del constructor raiz.
+ */
+public final class BuilderGraph<T> {
+
+    /**
+     * Las instancias ya construidas del grafo que se esta construyendo en el
+     * hilo actual.
+     */
+    private static final ThreadLocal<Map<BuilderInterface<?>, Node>> CURRENT = new ThreadLocal<>();
+
+    private final BuilderInterface<T> root;
+
+    private final Executor executor;
+
+    /**
+     * Construye un nuevo grafo a partir del constructor raiz, los
+     * constructores independientes se construyen en el conjunto de hilos
+     * comun.
+     *
+     * @param root el constructor raiz del grafo.
+     */
+    public BuilderGraph(BuilderInterface<T> root) {
+        this(root, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construye un nuevo grafo a partir del constructor raiz y el ejecutor de
+     * las construcciones independientes.
+     *
+     * @param root el constructor raiz del grafo.
+     * @param executor el ejecutor donde se construyen los constructores del
+     * grafo.
+     */
+    public BuilderGraph(BuilderInterface<T> root, Executor executor) {
+        this.root = root;
+        this.executor = executor;
+    }
+
+    /**
+     * Devuelve el constructor raiz del grafo.
+     *
+     * @return el constructor raiz.
+     */
+    public BuilderInterface<T> getRoot() {
+        return root;
+    }
+
+    /**
+     * Construye todos los constructores del grafo y devuelve la instancia del
+     * constructor raiz.
+     *
+     * @return la instancia creada por el constructor raiz.
+     * @throws InstanceBuildException si el grafo contiene un ciclo, si ocurre
+     * un error en la construccion de alguno de los constructores o si el hilo
+     * es interrumpido.
+     */
+    @SuppressWarnings("unchecked")
+    public T build() throws InstanceBuildException {
+        Map<BuilderInterface<?>, Node> nodes = new IdentityHashMap<>();
+        List<Node> order = new ArrayList<>();
+        visit(root, nodes, order);
+        for (Node node : order) {
+            CompletableFuture<?>[] dependencies = new CompletableFuture<?>[node.dependencies.size()];
+            for (int i = 0; i < dependencies.length; i++) {
+                dependencies[i] = node.dependencies.get(i).future;
+            }
+            CompletableFuture<Void> ready = dependencies.length == 0
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.allOf(dependencies);
+            node.future = ready.thenApplyAsync(v -> node.build(nodes), executor);
+        }
+        try {
+            return (T) nodes.get(root).future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof InstanceBuildException) {
+                throw (InstanceBuildException) ex.getCause();
+            }
+            throw new InstanceBuildException("Error, nested build failed.", ex.getCause());
+        }
+    }
+
+    /**
+     * Recorre en profundidad los constructores anidados agregando cada
+     * constructor al orden de construccion despues de sus dependencias.
+     * <p>
+     * El recorrido utiliza una pila explicita en lugar de la recursividad, de
+     * forma que la profundidad del grafo no este limitada por la pila del
+     * hilo. Los nodos que estan en la pila aun no han sido marcados como
+     * visitados, por lo cual encontrar uno de ellos como dependencia
+     * significa que el grafo contiene un ciclo.</p>
+     *
+     * @param root el constructor a partir del cual se realiza el recorrido.
+     * @param nodes los nodos ya visitados del grafo.
+     * @param order el orden de construccion de los nodos.
+     * @throws InstanceBuildException si se encuentra un ciclo en el grafo.
+     */
+    private static void visit(BuilderInterface<?> root, Map<BuilderInterface<?>, Node> nodes,
+            List<Node> order) throws InstanceBuildException {
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(root, nodes));
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            BuilderInterface<?> next = frame.nextDependency();
+            if (next == null) {
+                stack.pop();
+                frame.node.visited = true;
+                order.add(frame.node);
+                if (!stack.isEmpty()) {
+                    stack.peek().addDependency(frame.node);
+                }
+                continue;
+            }
+            Node dependency = nodes.get(next);
+            if (dependency == null) {
+                stack.push(new Frame(next, nodes));
+            } else if (!dependency.visited) {
+                throw new InstanceBuildException("Error, cyclic builder graph.",
+                        new Throwable("The builder " + next.getBuilderName()
+                                + " is part of a dependency cycle."));
+            } else {
+                frame.addDependency(dependency);
+            }
+        }
+    }
+
+    /**
+     * Devuelve la instancia de un constructor anidado.
+     * <p>
+     * Si el hilo actual esta construyendo un grafo, la instancia es la ya
+     * construida por el grafo, de lo contrario el constructor es construido en
+     * el momento.</p>
+     *
+     * @param builder el constructor anidado.
+     * @return la instancia del constructor anidado.
+     * @throws InstanceBuildException si ocurre un error en la construccion del
+     * constructor anidado.
+     */
+    static Object resolve(BuilderInterface<?> builder) throws InstanceBuildException {
+        Map<BuilderInterface<?>, Node> nodes = CURRENT.get();
+        Node node = nodes != null ? nodes.get(builder) : null;
+        if (node != null && node.future != null && node.future.isDone()) {
+            return node.future.join();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Elemento de la pila del recorrido, que contiene el nodo de un
+     * constructor y las propiedades del constructor aun no recorridas.
+     */
+    private static final class Frame {
+
+        private final Node node;
+
+        private final Iterator<BuilderProperty<String, Object>> properties;
+
+        private Frame(BuilderInterface<?> builder, Map<BuilderInterface<?>, Node> nodes) {
+            this.node = new Node(builder);
+            this.properties = builder.getProperties().values().iterator();
+            nodes.put(builder, node);
+        }
+
+        private BuilderInterface<?> nextDependency() {
+            while (properties.hasNext()) {
+                BuilderProperty<String, Object> property = properties.next();
+                if (BuilderPattern.isDeferred(property)) {
+                    continue;
+                }
+                Object value = property.getValue();
+                if (value instanceof BuilderInterface) {
+                    return (BuilderInterface<?>) value;
+                }
+            }
+            return null;
+        }
+
+        private void addDependency(Node dependency) {
+            if (!node.dependencies.contains(dependency)) {
+                node.dependencies.add(dependency);
+            }
+        }
+    }
+
+    /**
+     * Nodo del grafo que representa a un constructor y sus dependencias.
+     */
+    private static final class Node {
+
+        private final BuilderInterface<?> builder;
+
+        private final List<Node> dependencies;
+
+        private boolean visited;
+
+        private volatile CompletableFuture<Object> future;
+
+        private Node(BuilderInterface<?> builder) {
+            this.builder = builder;
+            this.dependencies = new ArrayList<>(2);
+        }
+
+        private Object build(Map<BuilderInterface<?>, Node> nodes) {
+            Map<BuilderInterface<?>, Node> previous = CURRENT.get();
+            CURRENT.set(nodes);
+            try {
+                return builder.build();
+            } catch (InstanceBuildException ex) {
+                throw new CompletionException(ex);
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        }
+    }
+}
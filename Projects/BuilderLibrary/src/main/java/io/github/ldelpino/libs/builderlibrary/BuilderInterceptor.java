@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary;
+
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.InvalidPropertyException;
+
+/**
+ * Servicio de interface que permite agregar logica transversal, como trazas,
+ * auditorias o valores por defecto, alrededor de las operaciones de un objeto
+ * {@link BuilderPattern} sin necesidad de heredar de el.
+ * <p>
+ * Los interceptores se registran por nombre de constructor en el servicio
+ * {@link io.github.ldelpino.libs.builderlibrary.service.BuilderService} o
+ * directamente en el constructor con el metodo
+ * {@link BuilderPattern#setInterceptors(io.github.ldelpino.libs.builderlibrary.BuilderInterceptor...)}.
+ * Todos los metodos poseen una implementacion por defecto vacia, por lo cual
+ * cada interceptor solo reimplementa los metodos que necesita. Los metodos
+ * {@code before} se ejecutan en el orden de registro de los interceptores y
+ * los metodos {@code after} en el orden inverso.
+ * </p>
+ * <p>
+ * Los interceptores de un prototipo son compartidos por todas sus copias de
+ * trabajo y pueden ser ejecutados de forma concurrente, por lo cual deben ser
+ * seguros entre hilos.
+ * </p>
+ *
+ * @author ldelpino
+ * @see io.github.ldelpino.libs.builderlibrary.BuilderPattern
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public interface BuilderInterceptor {
+
+    /**
+     * Se ejecuta antes de que una propiedad sea convertida, validada y
+     * agregada al constructor, por lo cual puede modificar la llave y el valor
+     * de la propiedad. La busqueda de la propiedad existente con la misma llave
+     * se realiza con la llave establecida por los interceptores.
+     *
+     * @param builder el constructor al cual se agrega la propiedad.
+     * @param property la propiedad a agregar.
+     * @throws InvalidPropertyException si la propiedad no debe ser agregada.
+     */
+    public default void beforePut(BuilderInterface<?> builder, BuilderProperty<String, Object> property)
+            throws InvalidPropertyException {
+    }
+
+    /**
+     * Se ejecuta despues de que una propiedad es agregada al constructor.
+     *
+     * @param builder el constructor al cual se agrego la propiedad.
+     * @param property la propiedad agregada.
+     */
+    public default void afterPut(BuilderInterface<?> builder, BuilderProperty<String, Object> property) {
+    }
+
+    /**
+     * Se ejecuta al comienzo de la fase de validacion de la creacion de una
+     * nueva instancia, antes de la validacion de las propiedades que se
+     * validan durante la creacion y antes de la creacion y la validacion de la
+     * instancia por el validador del constructor.
+     *
+     * @param builder el constructor a validar.
+     * @throws InstanceBuildException si la nueva instancia no debe ser creada.
+     */
+    public default void beforeValidate(BuilderInterface<?> builder) throws InstanceBuildException {
+    }
+
+    /**
+     * Se ejecuta al terminar satisfactoriamente la fase de validacion de la
+     * creacion de una nueva instancia, despues de la validacion de las
+     * propiedades y de la instancia por el validador del constructor.
+     *
+     * @param builder el constructor validado.
+     * @throws InstanceBuildException si la nueva instancia no debe ser creada.
+     */
+    public default void afterValidate(BuilderInterface<?> builder) throws InstanceBuildException {
+    }
+
+    /**
+     * Se ejecuta al comienzo de la creacion de una nueva instancia, antes de
+     * la validacion de las propiedades.
+     *
+     * @param builder el constructor que crea la instancia.
+     * @throws InstanceBuildException si la nueva instancia no debe ser creada.
+     */
+    public default void beforeBuild(BuilderInterface<?> builder) throws InstanceBuildException {
+    }
+
+    /**
+     * Se ejecuta despues de que la nueva instancia es creada y validada por el
+     * validador del constructor, a continuacion del metodo
+     * {@link #afterValidate(io.github.ldelpino.libs.builderlibrary.BuilderInterface)}.
+     *
+     * @param builder el constructor que creo la instancia.
+     * @param instance la nueva instancia.
+     * @throws InstanceBuildException si la nueva instancia no debe ser
+     * devuelta.
+     */
+    public default void afterBuild(BuilderInterface<?> builder, Object instance) throws InstanceBuildException {
+    }
+}
@@ -18,7 +18,9 @@ package io.github.ldelpino.libs.builderlibrary;
 
 import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -148,6 +150,174 @@ public interface BuilderInterface<T> {
      */
     public void putProperty(String propertyName, Object value) throws IOException;
 
+    /**
+     * Remueve una propiedad de este objeto.
+     * <p>
+     * Las implementaciones por defecto de
+     * {@link #putProperties(java.util.Collection)} y
+     * {@link #replaceProperty(io.github.ldelpino.libs.builderlibrary.property.BuilderProperty)}
+     * dependen de este metodo para deshacer sus cambios cuando alguna
+     * propiedad no es valida.</p>
+     *
+     * @param propertyName la llave que identifica a la propiedad.
+     * @return la propiedad removida o {@code null} si no existe.
+     * @throws IOException si la propiedad no puede ser removida.
+     */
+    public BuilderProperty<String, Object> removeProperty(String propertyName) throws IOException;
+
+    /**
+     * Establece un conjunto de nuevas propiedades para este objeto.
+     * <p>
+     * Todas las propiedades son validadas antes de ser agregadas, si alguna
+     * propiedad no es valida ninguna de las propiedades es agregada. La
+     * implementacion por defecto agrega las propiedades una a una y si alguna
+     * falla remueve las ya agregadas con el metodo
+     * {@link #removeProperty(java.lang.String)}; los errores al removerlas se
+     * agregan como excepciones suprimidas del error original.</p>
+     *
+     * @param properties las nuevas propiedades a establecer al objeto.
+     * @throws IOException si alguna propiedad es nula, alguna llave ya existe o
+     * esta duplicada o alguna propiedad no es valida.
+     */
+    public default void putProperties(Collection<BuilderProperty<String, Object>> properties) throws IOException {
+        if (properties == null) {
+            throw new IOException("Error.", new Throwable("The properties cannot be null."));
+        }
+        List<String> added = new ArrayList<>(properties.size());
+        try {
+            for (BuilderProperty<String, Object> property : properties) {
+                putProperty(property);
+                added.add(property.getKey());
+            }
+        } catch (IOException | RuntimeException ex) {
+            for (String key : added) {
+                try {
+                    removeProperty(key);
+                } catch (IOException | RuntimeException rollback) {
+                    ex.addSuppressed(rollback);
+                }
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Establece un conjunto de nuevas propiedades a partir de un mapa con las
+     * llaves que identifican a las propiedades y sus valores correspondientes.
+     *
+     * @param properties el mapa con las llaves y los valores de las nuevas
+     * propiedades.
+     * @throws IOException si alguna llave ya existe o esta duplicada.
+     */
+    public default void putProperties(Map<String, Object> properties) throws IOException {
+        if (properties == null) {
+            throw new IOException("Error.", new Throwable("The properties cannot be null."));
+        }
+        List<BuilderProperty<String, Object>> list = new ArrayList<>(properties.size());
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            list.add(new BuilderProperty<>(entry.getKey(), entry.getValue()));
+        }
+        putProperties(list);
+    }
+
+    /**
+     * Sustituye una propiedad existente de este objeto.
+     * <p>
+     * La implementacion por defecto remueve la propiedad existente con el
+     * metodo {@link #removeProperty(java.lang.String)} y agrega la nueva
+     * propiedad, si la nueva propiedad no es valida la propiedad existente es
+     * restablecida. Si la propiedad existente no puede ser restablecida, su
+     * error se agrega como excepcion suprimida del error original.</p>
+     *
+     * @param property la nueva propiedad que sustituye a la propiedad con la
+     * misma llave.
+     * @return la propiedad sustituida.
+     * @throws IOException si la propiedad es nula, no existe una propiedad con
+     * la misma llave o la propiedad no es valida.
+     */
+    public default BuilderProperty<String, Object> replaceProperty(BuilderProperty<String, Object> property) throws IOException {
+        if (property == null) {
+            throw new IOException("Error.", new Throwable("The property cannot be null."));
+        }
+        BuilderProperty<String, Object> current = getProperty(property.getKey());
+        if (current == null) {
+            throw new IOException("Error, property not found",
+                    new Throwable("The property key does not exist: " + property.getKey()));
+        }
+        removeProperty(property.getKey());
+        try {
+            putProperty(property);
+        } catch (IOException | RuntimeException ex) {
+            try {
+                putProperty(current);
+            } catch (IOException | RuntimeException rollback) {
+                ex.addSuppressed(rollback);
+            }
+            throw ex;
+        }
+        return current;
+    }
+
+    /**
+     * Sustituye el valor de una propiedad existente a partir de la llave que
+     * identifica a la propiedad y su nuevo valor, la propiedad conserva su
+     * validador y su tipo de dato.
+     *
+     * @param propertyName la llave o identificador de la propiedad.
+     * @param value el nuevo valor de la propiedad.
+     * @return la propiedad sustituida.
+     * @throws IOException si no existe una propiedad con la llave o el nuevo
+     * valor no es valido.
+     */
+    public default BuilderProperty<String, Object> replaceProperty(String propertyName, Object value) throws IOException {
+        BuilderProperty<String, Object> current = getProperty(propertyName);
+        if (current == null) {
+            throw new IOException("Error, property not found",
+                    new Throwable("The property key does not exist: " + propertyName));
+        }
+        return replaceProperty(new BuilderProperty<>(propertyName, value,
+                current.getTargetType(), current.getPropertyValidator()));
+    }
+
+    /**
+     * Establece una nueva propiedad para este objeto o sustituye a la
+     * propiedad existente con la misma llave.
+     *
+     * @param property la propiedad a establecer al objeto.
+     * @return la propiedad sustituida o {@code null} si no existia una
+     * propiedad con la misma llave.
+     * @throws IOException si la propiedad es nula o no es valida.
+     */
+    public default BuilderProperty<String, Object> upsertProperty(BuilderProperty<String, Object> property) throws IOException {
+        if (property == null) {
+            throw new IOException("Error.", new Throwable("The property cannot be null."));
+        }
+        if (!existProperty(property.getKey())) {
+            putProperty(property);
+            return null;
+        }
+        return replaceProperty(property);
+    }
+
+    /**
+     * Establece una nueva propiedad o sustituye el valor de la propiedad
+     * existente a partir de la llave que identifica a la propiedad y su valor,
+     * la propiedad existente conserva su validador y su tipo de dato.
+     *
+     * @param propertyName la llave o identificador de la propiedad.
+     * @param value el valor de la propiedad.
+     * @return la propiedad sustituida o {@code null} si no existia una
+     * propiedad con la misma llave.
+     * @throws IOException si la propiedad no es valida.
+     */
+    public default BuilderProperty<String, Object> upsertProperty(String propertyName, Object value) throws IOException {
+        if (!existProperty(propertyName)) {
+            putProperty(propertyName, value);
+            return null;
+        }
+        return replaceProperty(propertyName, value);
+    }
+
     /**
      * Devuelve el validador del patron con el cual validar la creacion de
      * nuevas instancias.
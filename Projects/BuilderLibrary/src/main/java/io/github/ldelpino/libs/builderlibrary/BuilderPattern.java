@@ -16,12 +16,35 @@
  */
 package io.github.ldelpino.libs.builderlibrary;
 
+import io.github.ldelpino.libs.builderlibrary.property.AsyncPropertyValidator;
 import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.InvalidPropertyException;
+import io.github.ldelpino.libs.builderlibrary.property.LazyBuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyInterner;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyValidator;
+import io.github.ldelpino.libs.builderlibrary.service.ConverterService;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * Clase abstracta que permite la creacion del patron de diseño <b>Builder</b>
@@ -79,12 +102,85 @@ public abstract class BuilderPattern<T> implements BuilderInterface<T> {
      */
     protected BuilderValidator validator;
 
+    /**
+     * El conjunto de hilos utilizado para la validacion en paralelo de las
+     * propiedades, si es {@code null} las propiedades se validan en el momento
+     * de ser agregadas.
+     */
+    protected ForkJoinPool validationPool;
+
+    /**
+     * El tiempo maximo en nanosegundos para la validacion en paralelo de las
+     * propiedades, si es menor o igual que cero no existe limite de tiempo.
+     */
+    protected long validationTimeout;
+
+    /**
+     * Establece si alguna de las propiedades de este objeto posee un validador
+     * asincrono, cuya validacion se realiza durante la construccion de nuevas
+     * instancias.
+     */
+    protected boolean asyncValidation;
+
+    /**
+     * El prototipo a partir del cual fue creada esta copia de trabajo o
+     * {@code null} si este objeto no es una copia de trabajo.
+     */
+    protected BuilderPattern<T> prototype;
+
+    /**
+     * Establece si este objeto es un prototipo inmodificable.
+     */
+    private volatile boolean frozen;
+
+    /**
+     * Establece si el mapa de propiedades de esta copia de trabajo es el mapa
+     * de su prototipo, el cual se copia antes de la primera modificacion.
+     */
+    private boolean sharedProperties;
+
+    /**
+     * La cadena de interceptores de este objeto o {@code null} si no posee
+     * interceptores.
+     */
+    private volatile BuilderInterceptor[] interceptors;
+
+    /**
+     * La tabla de llaves y valores canonicos de las propiedades de este objeto
+     * o {@code null} si las propiedades no se sustituyen por sus instancias
+     * canonicas.
+     */
+    private volatile PropertyInterner interner;
+
+    /**
+     * Los constructores sin parametros de las clases que heredan de
+     * {@code BuilderPattern} utilizados para crear las copias de trabajo.
+     */
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (NoSuchMethodException | RuntimeException ex) {
+                return null;
+            }
+        }
+    };
+
     /**
      * Construye una nueva instancia de esta clase.
      */
     public BuilderPattern() {
         this.properties = new HashMap<>();
         validator = null;
+        validationPool = null;
+        validationTimeout = 0;
+        asyncValidation = false;
+        prototype = null;
+        frozen = false;
+        sharedProperties = false;
     }
 
     /**
@@ -165,19 +261,431 @@ public abstract class BuilderPattern<T> implements BuilderInterface<T> {
      *
      * @param property la nueva propiedad a establecer al objeto.
      * @throws IOException si la propiedad es nula, la llave ya existe, esta
-     * duplicada o la propiedad no es valida.
+     * duplicada, el valor no puede ser convertido al tipo de dato de la
+     * propiedad o la propiedad no es valida.
      */
     @Override
     public void putProperty(BuilderProperty<String, Object> property) throws IOException {
         if (property == null) {
             throw new IOException("Error.", new Throwable("The property cannot be null."));
         }
-        if (getProperties().containsKey(property.getKey())) {
+        checkFrozen();
+        interceptProperty(property);
+        BuilderProperty<String, Object> current = properties.get(property.getKey());
+        if (current != null && !isInherited(property.getKey(), current)) {
             throw new IOException("Error, duplicated property key",
                     new Throwable("The property key already exist"));
         }
-        property.validate();
-        properties.put(property.getKey(), property);
+        inherit(property, current);
+        prepareProperty(property);
+        writableProperties().put(property.getKey(), property);
+        afterPut(property);
+    }
+
+    /**
+     * Remueve una propiedad de este objeto. Si este objeto es una copia de
+     * trabajo, la propiedad compartida con su prototipo se remueve solo de la
+     * copia de trabajo.
+     *
+     * @param propertyName la llave que identifica a la propiedad.
+     * @return la propiedad removida o {@code null} si no existe.
+     * @throws IOException si este objeto es un prototipo inmodificable.
+     */
+    @Override
+    public BuilderProperty<String, Object> removeProperty(String propertyName) throws IOException {
+        checkFrozen();
+        if (propertyName == null || (sharedProperties && !properties.containsKey(propertyName))) {
+            return null;
+        }
+        return writableProperties().remove(propertyName);
+    }
+
+    /**
+     * Establece una nueva propiedad diferida a partir de la llave que
+     * identifica a la propiedad y el objeto que calcula su valor.
+     * <p>
+     * El valor de la propiedad solo se calcula si es solicitado, por ejemplo
+     * durante la creacion de la nueva instancia.</p>
+     *
+     * @param propertyName la llave o identificador de la propiedad.
+     * @param supplier el objeto que calcula el valor de la propiedad.
+     * @throws IOException si la llave ya existe o esta duplicada.
+     * @see LazyBuilderProperty
+     */
+    public void putLazyProperty(String propertyName, Supplier<?> supplier) throws IOException {
+        putProperty(new LazyBuilderProperty<>(propertyName, supplier));
+    }
+
+    /**
+     * Establece un conjunto de nuevas propiedades para este objeto.
+     * <p>
+     * Todas las propiedades son convertidas y validadas en un unico recorrido
+     * antes de ser agregadas y el mapa de propiedades se redimensiona una
+     * unica vez para la cantidad total de propiedades. Si alguna propiedad no
+     * es valida ninguna de las propiedades es agregada.</p>
+     *
+     * @param properties las nuevas propiedades a establecer al objeto.
+     * @throws IOException si alguna propiedad es nula, alguna llave ya existe o
+     * esta duplicada o alguna propiedad no es valida.
+     */
+    @Override
+    public void putProperties(Collection<BuilderProperty<String, Object>> properties) throws IOException {
+        if (properties == null) {
+            throw new IOException("Error.", new Throwable("The properties cannot be null."));
+        }
+        checkFrozen();
+        Map<String, BuilderProperty<String, Object>> incoming = new HashMap<>(capacityFor(properties.size()));
+        InvalidPropertyException error = null;
+        for (BuilderProperty<String, Object> property : properties) {
+            if (property == null) {
+                throw new IOException("Error.", new Throwable("The property cannot be null."));
+            }
+            try {
+                interceptProperty(property);
+            } catch (InvalidPropertyException ex) {
+                error = addFailure(error, ex);
+                continue;
+            }
+            BuilderProperty<String, Object> current = this.properties.get(property.getKey());
+            if ((current != null && !isInherited(property.getKey(), current))
+                    || incoming.put(property.getKey(), property) != null) {
+                throw new IOException("Error, duplicated property key",
+                        new Throwable("The property key already exist: " + property.getKey()));
+            }
+            inherit(property, current);
+            try {
+                prepareProperty(property);
+            } catch (InvalidPropertyException ex) {
+                error = addFailure(error, ex);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        Map<String, BuilderProperty<String, Object>> target
+                = new HashMap<>(capacityFor(this.properties.size() + incoming.size()));
+        target.putAll(this.properties);
+        for (BuilderProperty<String, Object> property : incoming.values()) {
+            target.put(property.getKey(), property);
+        }
+        this.properties = target;
+        sharedProperties = false;
+        if (interceptors != null) {
+            for (BuilderProperty<String, Object> property : incoming.values()) {
+                afterPut(property);
+            }
+        }
+    }
+
+    /**
+     * Establece un conjunto de nuevas propiedades a partir de un mapa con las
+     * llaves que identifican a las propiedades y sus valores correspondientes.
+     *
+     * @param properties el mapa con las llaves y los valores de las nuevas
+     * propiedades.
+     * @throws IOException si alguna llave ya existe o esta duplicada.
+     */
+    @Override
+    public void putProperties(Map<String, Object> properties) throws IOException {
+        if (properties == null) {
+            throw new IOException("Error.", new Throwable("The properties cannot be null."));
+        }
+        List<BuilderProperty<String, Object>> list = new ArrayList<>(properties.size());
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            list.add(new BuilderProperty<>(entry.getKey(), entry.getValue()));
+        }
+        putProperties(list);
+    }
+
+    /**
+     * Establece las propiedades de este objeto a partir de una instancia
+     * existente.
+     * <p>
+     * Por cada metodo de acceso publico de la instancia ({@code getX()} o
+     * {@code isX()}) se establece una propiedad con la llave {@code x}, cuyo
+     * valor se obtiene de la instancia solo cuando es solicitado por primera
+     * vez. Las propiedades ya establecidas en este objeto se mantienen, excepto
+     * las compartidas con el prototipo de una copia de trabajo, cuyo validador
+     * y tipo de dato se conservan en la propiedad cargada, por lo cual el valor
+     * obtenido de la instancia se convierte y valida al ser calculado. Las
+     * propiedades cargadas pasan por los interceptores y la tabla de instancias
+     * canonicas igual que las propiedades agregadas. Para modificar una
+     * propiedad cargada se utiliza el metodo
+     * {@link #upsertProperty(java.lang.String, java.lang.Object)}.</p>
+     * <p>
+     * Los metodos de acceso de cada clase se buscan una unica vez. Cargar una
+     * instancia no lee ninguno de sus valores, pero si crea una propiedad
+     * diferida y una entrada del mapa de propiedades por cada metodo de acceso,
+     * por lo cual su costo es proporcional a la cantidad de metodos de acceso
+     * de la clase y no a la cantidad de propiedades leidas o sustituidas.</p>
+     *
+     * @param instance la instancia de la cual obtener las propiedades.
+     * @throws IOException si la instancia es nula, este objeto es un prototipo
+     * inmodificable, algun interceptor rechaza una propiedad cargada o alguno
+     * de los metodos de acceso no es accesible, ej: la clase de la instancia no
+     * es publica y el metodo no esta declarado en una clase o interfaz
+     * publica.
+     */
+    public void loadInstance(T instance) throws IOException {
+        if (instance == null) {
+            throw new IOException("Error.", new Throwable("The instance cannot be null."));
+        }
+        checkFrozen();
+        Map<String, MethodHandle> accessors = InstanceAccessors.of(instance.getClass());
+        Map<String, BuilderProperty<String, Object>> target
+                = new HashMap<>(capacityFor(properties.size() + accessors.size()));
+        for (Map.Entry<String, BuilderProperty<String, Object>> entry : properties.entrySet()) {
+            if (!accessors.containsKey(entry.getKey()) || !isInherited(entry.getKey(), entry.getValue())) {
+                target.put(entry.getKey(), entry.getValue());
+            }
+        }
+        List<BuilderProperty<String, Object>> loaded = new ArrayList<>(accessors.size());
+        InvalidPropertyException error = null;
+        for (Map.Entry<String, MethodHandle> entry : accessors.entrySet()) {
+            BuilderProperty<String, Object> property = InstanceAccessors.property(entry.getKey(), entry.getValue(), instance);
+            try {
+                interceptProperty(property);
+            } catch (InvalidPropertyException ex) {
+                error = addFailure(error, ex);
+                continue;
+            }
+            BuilderProperty<String, Object> current = target.get(property.getKey());
+            if (current != null && !isInherited(property.getKey(), current)) {
+                continue;
+            }
+            inherit(property, current != null ? current : properties.get(property.getKey()));
+            prepareProperty(property);
+            target.put(property.getKey(), property);
+            loaded.add(property);
+        }
+        if (error != null) {
+            throw error;
+        }
+        properties = target;
+        sharedProperties = false;
+        if (interceptors != null) {
+            for (BuilderProperty<String, Object> property : loaded) {
+                afterPut(property);
+            }
+        }
+    }
+
+    /**
+     * Sustituye una propiedad existente de este objeto.
+     * <p>
+     * La existencia de la propiedad se verifica despues de ejecutar los
+     * interceptores, con la llave establecida por ellos, y antes de la
+     * conversion y la validacion de la nueva propiedad. Si
+     * la nueva propiedad no posee su propio validador o tipo de dato conserva
+     * los de la propiedad sustituida.</p>
+     *
+     * @param property la nueva propiedad que sustituye a la propiedad con la
+     * misma llave.
+     * @return la propiedad sustituida.
+     * @throws IOException si la propiedad es nula, no existe una propiedad con
+     * la misma llave o la propiedad no es valida.
+     */
+    @Override
+    public BuilderProperty<String, Object> replaceProperty(BuilderProperty<String, Object> property) throws IOException {
+        if (property == null) {
+            throw new IOException("Error.", new Throwable("The property cannot be null."));
+        }
+        checkFrozen();
+        interceptProperty(property);
+        BuilderProperty<String, Object> previous = writableProperties().replace(property.getKey(), property);
+        if (previous == null) {
+            throw new IOException("Error, property not found",
+                    new Throwable("The property key does not exist: " + property.getKey()));
+        }
+        inherit(property, previous);
+        try {
+            prepareProperty(property);
+        } catch (InvalidPropertyException ex) {
+            properties.put(property.getKey(), previous);
+            throw ex;
+        }
+        afterPut(property);
+        return previous;
+    }
+
+    /**
+     * Sustituye el valor de una propiedad existente a partir de la llave que
+     * identifica a la propiedad y su nuevo valor, la propiedad conserva su
+     * validador y su tipo de dato.
+     *
+     * @param propertyName la llave o identificador de la propiedad.
+     * @param value el nuevo valor de la propiedad.
+     * @return la propiedad sustituida.
+     * @throws IOException si no existe una propiedad con la llave o el nuevo
+     * valor no es valido.
+     */
+    @Override
+    public BuilderProperty<String, Object> replaceProperty(String propertyName, Object value) throws IOException {
+        return replaceProperty(new BuilderProperty<>(propertyName, value));
+    }
+
+    /**
+     * Establece una nueva propiedad para este objeto o sustituye a la
+     * propiedad existente con la misma llave.
+     * <p>
+     * La propiedad es convertida y validada antes de ser establecida, si
+     * sustituye a una propiedad existente y no posee su propio validador o
+     * tipo de dato conserva los de la propiedad sustituida.</p>
+     *
+     * @param property la propiedad a establecer al objeto.
+     * @return la propiedad sustituida o {@code null} si no existia una
+     * propiedad con la misma llave.
+     * @throws IOException si la propiedad es nula o no es valida.
+     */
+    @Override
+    public BuilderProperty<String, Object> upsertProperty(BuilderProperty<String, Object> property) throws IOException {
+        if (property == null) {
+            throw new IOException("Error.", new Throwable("The property cannot be null."));
+        }
+        checkFrozen();
+        interceptProperty(property);
+        BuilderProperty<String, Object> previous = writableProperties().put(property.getKey(), property);
+        inherit(property, previous);
+        try {
+            prepareProperty(property);
+        } catch (InvalidPropertyException ex) {
+            if (previous != null) {
+                properties.put(property.getKey(), previous);
+            } else {
+                properties.remove(property.getKey());
+            }
+            throw ex;
+        }
+        afterPut(property);
+        return previous;
+    }
+
+    /**
+     * Establece una nueva propiedad o sustituye el valor de la propiedad
+     * existente a partir de la llave que identifica a la propiedad y su valor,
+     * la propiedad existente conserva su validador y su tipo de dato.
+     *
+     * @param propertyName la llave o identificador de la propiedad.
+     * @param value el valor de la propiedad.
+     * @return la propiedad sustituida o {@code null} si no existia una
+     * propiedad con la misma llave.
+     * @throws IOException si la propiedad no es valida.
+     */
+    @Override
+    public BuilderProperty<String, Object> upsertProperty(String propertyName, Object value) throws IOException {
+        return upsertProperty(new BuilderProperty<>(propertyName, value));
+    }
+
+    /**
+     * Ejecuta los interceptores de una propiedad antes de ser agregada y
+     * sustituye su llave por su instancia canonica si este objeto posee una
+     * tabla de instancias canonicas. Se ejecuta antes de buscar la propiedad
+     * existente con la misma llave, ya que los interceptores pueden modificar
+     * la llave.
+     *
+     * @param property la propiedad a agregar.
+     * @throws InvalidPropertyException si algun interceptor rechaza la
+     * propiedad.
+     */
+    private void interceptProperty(BuilderProperty<String, Object> property) throws InvalidPropertyException {
+        BuilderInterceptor[] chain = interceptors;
+        if (chain != null) {
+            for (BuilderInterceptor interceptor : chain) {
+                interceptor.beforePut(this, property);
+            }
+        }
+        PropertyInterner table = interner;
+        if (table != null) {
+            String key = table.internKey(property.getKey());
+            if (key != property.getKey()) {
+                property.setKey(key);
+            }
+        }
+    }
+
+    /**
+     * Convierte el valor de una propiedad a su tipo de dato, sustituye el
+     * valor por su instancia canonica si corresponde y realiza su validacion,
+     * si las propiedades no se validan en paralelo y el validador de la
+     * propiedad no es asincrono. Las propiedades diferidas cuyo valor aun no ha
+     * sido calculado se validan cuando el valor sea calculado.
+     *
+     * @param property la propiedad a preparar antes de ser agregada.
+     * @throws InvalidPropertyException si el valor no puede ser convertido o la
+     * propiedad no es valida.
+     */
+    private void prepareProperty(BuilderProperty<String, Object> property) throws InvalidPropertyException {
+        PropertyInterner table = interner;
+        if (isDeferred(property)) {
+            return;
+        }
+        if (property.getTargetType() != null) {
+            property.setValue(ConverterService.getDefault()
+                    .convert(property.getValue(), property.getTargetType()));
+        }
+        if (table != null && table.isLowCardinality(property.getKey())) {
+            property.setValue(table.internValue(property.getKey(), property.getValue()));
+        }
+        if (property.getPropertyValidator() instanceof AsyncPropertyValidator) {
+            asyncValidation = true;
+        } else if (!isParallelValidation()) {
+            property.validate();
+        }
+    }
+
+    /**
+     * Agrega un error de una propiedad al error acumulado de un conjunto de
+     * propiedades.
+     *
+     * @param error el error acumulado o {@code null} si no ha ocurrido ninguno.
+     * @param cause el nuevo error de la propiedad.
+     * @return el error acumulado con el nuevo error agregado.
+     */
+    private static InvalidPropertyException addFailure(InvalidPropertyException error,
+            InvalidPropertyException cause) {
+        if (error == null) {
+            return new InvalidPropertyException("Error, invalid properties.", cause);
+        }
+        error.addSuppressed(cause);
+        return error;
+    }
+
+    /**
+     * Ejecuta los interceptores de este objeto despues de agregar una
+     * propiedad.
+     *
+     * @param property la propiedad agregada.
+     */
+    private void afterPut(BuilderProperty<String, Object> property) {
+        BuilderInterceptor[] chain = interceptors;
+        if (chain != null) {
+            for (int i = chain.length - 1; i >= 0; i--) {
+                chain[i].afterPut(this, property);
+            }
+        }
+    }
+
+    /**
+     * Establece si una propiedad es diferida y su valor aun no ha sido
+     * calculado.
+     *
+     * @param property la propiedad a verificar.
+     * @return <code>true</code> si el valor de la propiedad aun no ha sido
+     * calculado.
+     */
+    static boolean isDeferred(BuilderProperty<?, ?> property) {
+        return property instanceof LazyBuilderProperty && !((LazyBuilderProperty<?, ?>) property).isMaterialized();
+    }
+
+    /**
+     * Devuelve la capacidad inicial de un mapa para almacenar una cantidad de
+     * elementos sin ser redimensionado.
+     *
+     * @param size la cantidad de elementos a almacenar.
+     * @return la capacidad inicial del mapa.
+     */
+    private static int capacityFor(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
     }
 
     /**
@@ -193,6 +701,45 @@ public abstract class BuilderPattern<T> implements BuilderInterface<T> {
         putProperty(new BuilderProperty(propertyName, value));
     }
 
+    /**
+     * Establece una nueva propiedad a partir de la llave que identifica a la
+     * propiedad, su valor correspondiente y el tipo de dato al cual convertir
+     * el valor.
+     *
+     * @param propertyName la llave o identificador de la propiedad.
+     * @param value el valor de la propiedad.
+     * @param targetType el tipo de dato al cual se convierte el valor.
+     * @throws IOException si la llave ya existe o esta duplicada o el valor no
+     * puede ser convertido.
+     */
+    public void putProperty(String propertyName, Object value, Class<?> targetType) throws IOException {
+        putProperty(new BuilderProperty<>(propertyName, value, targetType, null));
+    }
+
+    /**
+     * Devuelve el valor de una propiedad, si el valor es un constructor de
+     * instancias anidado devuelve la instancia construida por el mismo.
+     * <p>
+     * Cuando este objeto es construido como parte de un objeto
+     * {@link BuilderGraph}, la instancia del constructor anidado es la ya
+     * construida por el grafo, de lo contrario el constructor anidado es
+     * construido en el momento.</p>
+     *
+     * @param propertyName la llave que identifica a una propiedad.
+     * @return el valor de la propiedad, la instancia del constructor anidado o
+     * {@code null} si la propiedad no existe.
+     * @throws InstanceBuildException si ocurre un error en la construccion del
+     * constructor anidado.
+     */
+    protected Object getBuiltValue(String propertyName) throws InstanceBuildException {
+        BuilderProperty<String, Object> property = getProperty(propertyName);
+        Object value = property != null ? property.getValue() : null;
+        if (value instanceof BuilderInterface) {
+            return BuilderGraph.resolve((BuilderInterface<?>) value);
+        }
+        return value;
+    }
+
     /**
      * Devuelve el validador del patron con el cual validar la creacion de
      * nuevas instancias.
@@ -211,31 +758,635 @@ public abstract class BuilderPattern<T> implements BuilderInterface<T> {
      */
     @Override
     public void setBuilderValidator(BuilderValidator validator) {
+        checkFrozenState();
         this.validator = validator;
     }
 
+    /**
+     * Establece este objeto como un prototipo inmodificable.
+     * <p>
+     * Un prototipo no admite nuevas propiedades ni un nuevo validador, para
+     * construir nuevas instancias a partir de el se deben crear copias de
+     * trabajo con el metodo {@link #newWorkingCopy()}. Las propiedades y el
+     * validador del prototipo son compartidos con sus copias de trabajo, por lo
+     * cual las propiedades del prototipo tambien se establecen como
+     * inmodificables, ver {@link BuilderProperty#freeze()}.</p>
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        for (BuilderProperty<String, Object> property : properties.values()) {
+            property.freeze();
+        }
+        properties = Collections.unmodifiableMap(properties);
+        frozen = true;
+    }
+
+    /**
+     * Establece si este objeto es un prototipo inmodificable.
+     *
+     * @return <code>true</code> si este objeto es un prototipo inmodificable,
+     * de lo contrario devuelve <code>false</code>.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Devuelve el prototipo a partir del cual fue creada esta copia de
+     * trabajo.
+     *
+     * @return el prototipo de esta copia de trabajo o {@code null} si este
+     * objeto no es una copia de trabajo.
+     */
+    public BuilderPattern<T> getPrototype() {
+        return prototype;
+    }
+
+    /**
+     * Crea una nueva copia de trabajo a partir de este objeto.
+     * <p>
+     * La copia de trabajo comparte las propiedades, el validador y la
+     * configuracion de validacion de este objeto, las propiedades agregadas a
+     * la copia de trabajo sustituyen a las propiedades compartidas con la misma
+     * llave sin modificar a este objeto. Las propiedades que sustituyen a una
+     * propiedad compartida sin poseer su propio validador o tipo de dato se
+     * convierten y validan con los de la propiedad compartida.</p>
+     * <p>
+     * La copia de trabajo utiliza el mapa de propiedades de este objeto hasta
+     * su primera modificacion, en la cual el mapa es copiado, por lo cual crear
+     * o restablecer una copia de trabajo no depende de la cantidad de
+     * propiedades. Este objeto debe ser un prototipo inmodificable, de lo
+     * contrario sus modificaciones son visibles en las copias de trabajo que
+     * aun comparten su mapa.</p>
+     *
+     * @return la nueva copia de trabajo.
+     * @throws IllegalStateException si no es posible crear una nueva instancia
+     * de la clase de este objeto.
+     */
+    public BuilderPattern<T> newWorkingCopy() {
+        BuilderPattern<T> copy = newInstance();
+        copy.prototype = this;
+        copy.reset();
+        return copy;
+    }
+
+    /**
+     * Restablece esta copia de trabajo a las propiedades, el validador, los
+     * interceptores, la tabla de instancias canonicas y la configuracion de
+     * validacion de su prototipo. Si este objeto no es una
+     * copia de trabajo se eliminan todas sus propiedades.
+     */
+    public void reset() {
+        checkFrozenState();
+        if (prototype == null) {
+            properties.clear();
+        } else {
+            properties = prototype.properties;
+            sharedProperties = true;
+            validator = prototype.validator;
+            validationPool = prototype.validationPool;
+            validationTimeout = prototype.validationTimeout;
+            asyncValidation = prototype.asyncValidation;
+            interceptors = prototype.interceptors;
+            interner = prototype.interner;
+        }
+    }
+
+    /**
+     * Establece si esta copia de trabajo aun utiliza el mapa de propiedades de
+     * su prototipo, por no haber sido modificada desde que fue creada o
+     * restablecida.
+     *
+     * @return <code>true</code> si el mapa de propiedades es el del prototipo.
+     */
+    public boolean isSharingProperties() {
+        return sharedProperties;
+    }
+
+    /**
+     * Devuelve el mapa de propiedades de este objeto para ser modificado,
+     * copiando antes el mapa del prototipo si aun es compartido.
+     *
+     * @return el mapa de propiedades propio de este objeto.
+     */
+    private Map<String, BuilderProperty<String, Object>> writableProperties() {
+        if (sharedProperties) {
+            properties = new HashMap<>(properties);
+            sharedProperties = false;
+        }
+        return properties;
+    }
+
+    /**
+     * Devuelve una nueva instancia vacia de la clase de este objeto, utilizada
+     * para la creacion de copias de trabajo.
+     * <p>
+     * La implementacion por defecto utiliza el constructor sin parametros de la
+     * clase, las clases que no poseen un constructor sin parametros deben
+     * reimplementar este metodo.</p>
+     *
+     * @return la nueva instancia vacia.
+     * @throws IllegalStateException si no es posible crear la nueva instancia.
+     */
+    @SuppressWarnings("unchecked")
+    protected BuilderPattern<T> newInstance() {
+        Constructor<?> constructor = CONSTRUCTORS.get(getClass());
+        if (constructor == null) {
+            throw new IllegalStateException("The builder " + getClass().getName()
+                    + " has no constructor without parameters.");
+        }
+        try {
+            return (BuilderPattern<T>) constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("The builder " + getClass().getName()
+                    + " cannot be instantiated.", ex);
+        }
+    }
+
+    /**
+     * Establece si la propiedad actual de una llave es compartida con el
+     * prototipo de esta copia de trabajo y por tanto puede ser sustituida.
+     *
+     * @param key la llave de la propiedad.
+     * @param current la propiedad actual de la llave.
+     * @return <code>true</code> si la propiedad es compartida con el prototipo.
+     */
+    private boolean isInherited(String key, BuilderProperty<String, Object> current) {
+        return prototype != null && prototype.properties.get(key) == current;
+    }
+
+    /**
+     * Establece en una propiedad el validador y el tipo de dato de la
+     * propiedad que sustituye, si la propiedad no posee los suyos, de forma que
+     * los valores de una copia de trabajo se conviertan y validen igual que
+     * los del prototipo.
+     *
+     * @param property la propiedad que sustituye.
+     * @param current la propiedad sustituida o {@code null} si no existe.
+     */
+    private static void inherit(BuilderProperty<String, Object> property, BuilderProperty<String, Object> current) {
+        if (current == null) {
+            return;
+        }
+        if (property.getPropertyValidator() == null) {
+            property.setPropertyValidator(current.getPropertyValidator());
+        }
+        if (property.getTargetType() == null) {
+            property.setTargetType(current.getTargetType());
+        }
+    }
+
+    /**
+     * Verifica que este objeto no sea un prototipo inmodificable.
+     *
+     * @throws IOException si este objeto es un prototipo inmodificable.
+     */
+    private void checkFrozen() throws IOException {
+        if (frozen) {
+            throw new IOException("Error, frozen builder.",
+                    new Throwable("The builder " + getBuilderName() + " is a frozen prototype."));
+        }
+    }
+
+    private void checkFrozenState() {
+        if (frozen) {
+            throw new IllegalStateException("The builder " + getBuilderName() + " is frozen.");
+        }
+    }
+
+    /**
+     * Establece si las propiedades se validan en paralelo durante la
+     * construccion de nuevas instancias.
+     * <p>
+     * Cuando se establece un conjunto de hilos, las propiedades agregadas no se
+     * validan en el momento de ser agregadas, sino que sus validadores se
+     * ejecutan en paralelo en el metodo {@link #build()} antes de crear la
+     * nueva instancia y antes de ejecutar el validador del patron. Todos los
+     * errores de validacion ocurridos se reunen en una unica excepcion
+     * {@link InstanceBuildException}.</p>
+     * <p>
+     * Las tareas de un {@link ForkJoinPool} no pueden ser interrumpidas, por lo
+     * cual cuando se agota el tiempo maximo la construccion falla de inmediato
+     * pero los validadores en curso continuan ejecutandose en el conjunto de
+     * hilos hasta terminar.</p>
+     *
+     * @param pool el conjunto de hilos donde ejecutar los validadores de las
+     * propiedades o {@code null} para validar cada propiedad al ser agregada.
+     * @param timeout el tiempo maximo para la validacion de todas las
+     * propiedades, si es menor o igual que cero no existe limite de tiempo.
+     * @param unit la unidad de tiempo del tiempo maximo de validacion.
+     */
+    public void setParallelValidation(ForkJoinPool pool, long timeout, TimeUnit unit) {
+        checkFrozenState();
+        this.validationPool = pool;
+        this.validationTimeout = pool != null && timeout > 0 ? unit.toNanos(timeout) : 0;
+    }
+
+    /**
+     * Establece si las propiedades de este objeto se validan en paralelo
+     * durante la construccion de nuevas instancias.
+     *
+     * @return <code>true</code> si las propiedades se validan en paralelo, de
+     * lo contrario devuelve <code>false</code>.
+     */
+    public boolean isParallelValidation() {
+        return validationPool != null;
+    }
+
+    /**
+     * Establece la cadena de interceptores de este objeto, la cual sustituye a
+     * la cadena anterior.
+     * <p>
+     * A diferencia del resto de la configuracion, los interceptores pueden ser
+     * establecidos en un prototipo inmodificable; sus copias de trabajo
+     * obtienen la nueva cadena al ser creadas o restablecidas. La cadena se
+     * almacena como un arreglo fijo, por lo cual su ejecucion no crea nuevos
+     * objetos y si no existen interceptores se reduce a una unica
+     * verificacion.</p>
+     *
+     * @param interceptors los interceptores en su orden de ejecucion, si no se
+     * especifica ninguno se eliminan los interceptores de este objeto.
+     * @see BuilderInterceptor
+     */
+    public void setInterceptors(BuilderInterceptor... interceptors) {
+        if (interceptors == null || interceptors.length == 0) {
+            this.interceptors = null;
+            return;
+        }
+        BuilderInterceptor[] chain = interceptors.clone();
+        for (BuilderInterceptor interceptor : chain) {
+            Objects.requireNonNull(interceptor, "The interceptor cannot be null.");
+        }
+        this.interceptors = chain;
+    }
+
+    /**
+     * Establece la tabla de llaves y valores canonicos de las propiedades de
+     * este objeto.
+     * <p>
+     * Las llaves de las propiedades agregadas posteriormente, y los valores de
+     * las propiedades declaradas con pocos valores diferentes, se sustituyen
+     * por sus instancias canonicas. Las llaves de las propiedades ya
+     * existentes se agregan a la tabla, de forma que las copias de trabajo de
+     * un prototipo reutilizan las llaves del mismo. Al igual que los
+     * interceptores, la tabla puede ser establecida en un prototipo
+     * inmodificable y es compartida por sus copias de trabajo.</p>
+     *
+     * @param interner la tabla de instancias canonicas o {@code null} para no
+     * sustituir las propiedades agregadas.
+     */
+    public void setPropertyInterner(PropertyInterner interner) {
+        if (interner != null) {
+            for (String key : properties.keySet()) {
+                interner.internKey(key);
+            }
+        }
+        this.interner = interner;
+    }
+
+    /**
+     * Devuelve la tabla de llaves y valores canonicos de las propiedades de
+     * este objeto.
+     *
+     * @return la tabla de instancias canonicas o {@code null} si este objeto
+     * no posee una tabla.
+     */
+    public PropertyInterner getPropertyInterner() {
+        return interner;
+    }
+
+    /**
+     * Devuelve la cadena de interceptores de este objeto.
+     *
+     * @return los interceptores en su orden de ejecucion, o un arreglo vacio si
+     * no posee interceptores.
+     */
+    public BuilderInterceptor[] getInterceptors() {
+        BuilderInterceptor[] chain = interceptors;
+        return chain != null ? chain.clone() : new BuilderInterceptor[0];
+    }
+
     /**
      * Valida y construye una nueva instancia del objeto a crear.
      *
      * @return la instancia creada del objeto instanciado a partir del patron
      * <b>Builder</b>.
      * @throws InstanceBuildException si ocurre un error durante el proceso de
-     * validacion antes de crear la nueva instancia.
+     * validacion o de creacion de la nueva instancia, incluidas las excepciones
+     * no comprobadas lanzadas por {@link #buildInstance()}.
      */
     @Override
     public final T build() throws InstanceBuildException {
-        T instance = buildInstance();
+        BuilderInterceptor[] chain = interceptors;
+        if (chain != null) {
+            for (BuilderInterceptor interceptor : chain) {
+                interceptor.beforeBuild(this);
+            }
+            for (BuilderInterceptor interceptor : chain) {
+                interceptor.beforeValidate(this);
+            }
+        }
+        if (isParallelValidation()) {
+            validateProperties();
+        } else if (asyncValidation) {
+            try {
+                validatePropertiesAsync().join();
+            } catch (CompletionException ex) {
+                throw (InstanceBuildException) ex.getCause();
+            }
+        }
+        T instance = createInstance();
         if (validator != null) {
             validator.validate(instance);
         }
+        if (chain != null) {
+            for (int i = chain.length - 1; i >= 0; i--) {
+                chain[i].afterValidate(this);
+            }
+            for (int i = chain.length - 1; i >= 0; i--) {
+                chain[i].afterBuild(this, instance);
+            }
+        }
         return instance;
     }
 
+    /**
+     * Valida y construye una nueva instancia del objeto a crear sin bloquear
+     * el hilo actual.
+     * <p>
+     * Las validaciones de las propiedades con validadores asincronos, o de
+     * todas las propiedades si se validan en paralelo, se componen sin esperar
+     * por su resultado; una vez completadas se crea la nueva instancia y se
+     * ejecuta el validador del patron, de forma asincrona si implementa
+     * {@link AsyncBuilderValidator}.</p>
+     *
+     * @return la etapa que se completa con la instancia creada, o de forma
+     * excepcional con una excepcion {@link InstanceBuildException} si ocurre un
+     * error durante el proceso de validacion o de creacion de la instancia.
+     */
+    @SuppressWarnings("unchecked")
+    public CompletionStage<T> buildAsync() {
+        BuilderInterceptor[] chain = interceptors;
+        if (chain != null) {
+            try {
+                for (BuilderInterceptor interceptor : chain) {
+                    interceptor.beforeBuild(this);
+                }
+                for (BuilderInterceptor interceptor : chain) {
+                    interceptor.beforeValidate(this);
+                }
+            } catch (InstanceBuildException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+        CompletableFuture<T> stage = validatePropertiesAsync().thenCompose(v -> {
+            T instance;
+            try {
+                instance = createInstance();
+            } catch (InstanceBuildException ex) {
+                throw new CompletionException(ex);
+            }
+            if (validator == null) {
+                return CompletableFuture.completedFuture(instance);
+            }
+            return AsyncBuilderValidator.of((BuilderValidator<T>) validator)
+                    .validateAsync(instance).thenApply(r -> instance);
+        });
+        if (chain == null) {
+            return stage.handle(BuilderPattern::completeBuild);
+        }
+        return stage.thenApply(instance -> {
+            try {
+                for (int i = chain.length - 1; i >= 0; i--) {
+                    chain[i].afterValidate(this);
+                }
+                for (int i = chain.length - 1; i >= 0; i--) {
+                    chain[i].afterBuild(this, instance);
+                }
+            } catch (InstanceBuildException ex) {
+                throw new CompletionException(ex);
+            }
+            return instance;
+        }).handle(BuilderPattern::completeBuild);
+    }
+
+    /**
+     * Compone las validaciones de las propiedades con validadores asincronos,
+     * o de todas las propiedades si se validan en paralelo, en una unica etapa.
+     *
+     * @return la etapa que se completa cuando terminan todas las validaciones,
+     * de forma excepcional con una excepcion {@link InstanceBuildException} que
+     * reune a todos los errores de validacion.
+     */
+    private CompletableFuture<Void> validatePropertiesAsync() {
+        List<CompletableFuture<Void>> stages = new ArrayList<>();
+        for (BuilderProperty<String, Object> property : properties.values()) {
+            PropertyValidator<Object> propertyValidator = property.getPropertyValidator();
+            if (propertyValidator == null || isDeferred(property)
+                    || !(isParallelValidation() || propertyValidator instanceof AsyncPropertyValidator)) {
+                continue;
+            }
+            CompletableFuture<Void> stage;
+            try {
+                AsyncPropertyValidator<Object> async = isParallelValidation()
+                        ? AsyncPropertyValidator.of(propertyValidator, validationPool)
+                        : AsyncPropertyValidator.of(propertyValidator);
+                stage = async.validateAsync(property.getValue()).toCompletableFuture();
+            } catch (RuntimeException ex) {
+                stage = CompletableFuture.failedFuture(ex);
+            }
+            if (validationTimeout > 0) {
+                stage = stage.copy().orTimeout(validationTimeout, TimeUnit.NANOSECONDS);
+            }
+            stages.add(stage);
+        }
+        if (stages.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0])).handle((v, ex) -> {
+            InstanceBuildException error = null;
+            for (CompletableFuture<Void> stage : stages) {
+                if (stage.isCompletedExceptionally()) {
+                    error = addFailure(error, failureOf(stage));
+                }
+            }
+            if (error != null) {
+                throw new CompletionException(error);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Devuelve la causa del error de una etapa completada de forma
+     * excepcional.
+     *
+     * @param stage la etapa completada.
+     * @return la causa del error o {@code null} si la etapa se completo
+     * normalmente.
+     */
+    private static Throwable failureOf(CompletableFuture<?> stage) {
+        try {
+            stage.join();
+            return null;
+        } catch (CompletionException ex) {
+            return ex.getCause() != null ? ex.getCause() : ex;
+        } catch (CancellationException ex) {
+            return ex;
+        }
+    }
+
+    /**
+     * Ejecuta en paralelo los validadores de las propiedades de este objeto y
+     * espera por la terminacion de todos ellos o hasta que se agote el tiempo
+     * maximo de validacion. Las tareas de un {@link ForkJoinPool} no pueden
+     * ser interrumpidas, por lo cual al agotarse el tiempo las validaciones en
+     * curso continuan ejecutandose hasta terminar, aunque su resultado es
+     * descartado.
+     *
+     * @throws InstanceBuildException si una o varias propiedades no son
+     * validas, se agota el tiempo de validacion o el hilo es interrumpido.
+     */
+    private void validateProperties() throws InstanceBuildException {
+        List<BuilderProperty<String, Object>> pending = new ArrayList<>(properties.size());
+        for (BuilderProperty<String, Object> property : properties.values()) {
+            if (property.getPropertyValidator() != null) {
+                pending.add(property);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        long deadline = System.nanoTime() + validationTimeout;
+        List<ForkJoinTask<Void>> tasks = new ArrayList<>(pending.size());
+        for (BuilderProperty<String, Object> property : pending) {
+            tasks.add(validationPool.submit(() -> {
+                property.validate();
+                return null;
+            }));
+        }
+        InstanceBuildException error = null;
+        boolean expired = false;
+        for (ForkJoinTask<Void> task : tasks) {
+            try {
+                if (expired) {
+                    task.cancel(true);
+                    if (!task.isCancelled() && task.isCompletedAbnormally()) {
+                        error = addFailure(error, task.getException());
+                    }
+                } else if (validationTimeout > 0) {
+                    task.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } else {
+                    task.get();
+                }
+            } catch (ExecutionException ex) {
+                error = addFailure(error, ex.getCause());
+            } catch (TimeoutException ex) {
+                expired = true;
+                task.cancel(true);
+                error = addFailure(error, ex);
+            } catch (CancellationException ex) {
+                error = addFailure(error, ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                tasks.forEach(t -> t.cancel(true));
+                throw new InstanceBuildException("Error, property validation interrupted.", ex);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Agrega un error de validacion al error acumulado de la validacion en
+     * paralelo de las propiedades.
+     *
+     * @param error el error acumulado o {@code null} si no ha ocurrido ninguno.
+     * @param failure el nuevo error de validacion.
+     * @return el error acumulado con el nuevo error agregado.
+     */
+    private static InstanceBuildException addFailure(InstanceBuildException error, Throwable failure) {
+        Throwable cause = unwrap(failure);
+        if (error == null) {
+            return new InstanceBuildException("Error, invalid properties.", cause);
+        }
+        error.addSuppressed(cause);
+        return error;
+    }
+
+    /**
+     * Devuelve la causa original de un error, eliminando los envoltorios
+     * agregados por los conjuntos de hilos, las etapas asincronas y las
+     * propiedades diferidas.
+     *
+     * @param failure el error.
+     * @return la causa original del error.
+     */
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException
+                || cause instanceof UncheckedIOException || cause.getClass() == RuntimeException.class)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Crea la nueva instancia a traves del metodo {@link #buildInstance()}.
+     * Los errores de las propiedades diferidas cuyo valor es calculado durante
+     * la creacion, y cualquier otra excepcion no comprobada lanzada por el
+     * metodo, se lanzan como una excepcion {@link InstanceBuildException}.
+     *
+     * @return la nueva instancia.
+     * @throws InstanceBuildException si ocurre un error en la creacion de la
+     * instancia o en el calculo de alguna propiedad diferida.
+     */
+    private T createInstance() throws InstanceBuildException {
+        try {
+            return buildInstance();
+        } catch (UncheckedIOException ex) {
+            if (ex.getCause() instanceof InvalidPropertyException) {
+                throw new InstanceBuildException("Error, invalid property.", ex.getCause());
+            }
+            throw new InstanceBuildException("Error, instance creation failed.", ex.getCause());
+        } catch (RuntimeException ex) {
+            throw new InstanceBuildException("Error, instance creation failed.", ex);
+        }
+    }
+
+    /**
+     * Sustituye el error de una etapa de construccion asincrona por una
+     * excepcion {@link InstanceBuildException} si no lo es, de forma que la
+     * etapa siempre se complete de forma excepcional con el tipo documentado.
+     *
+     * @param instance la instancia creada o {@code null} si ocurrio un error.
+     * @param failure el error de la etapa o {@code null} si no ocurrio.
+     * @return la instancia creada.
+     * @throws CompletionException cuya causa es el error de la etapa.
+     */
+    private static <T> T completeBuild(T instance, Throwable failure) {
+        if (failure == null) {
+            return instance;
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        if (cause instanceof InstanceBuildException) {
+            throw new CompletionException(cause);
+        }
+        throw new CompletionException(new InstanceBuildException("Error, instance creation failed.", cause));
+    }
+
     /**
      * Devuelve la nueva instancia del objeto a necesitar instanciar a partir
      * del patron <b>Builder</b> y las propiedades almacenadas con anterioridad.
      *
      * @return la nueva instancia.
+     * @throws InstanceBuildException si ocurre un error en la construccion de
+     * los constructores de instancias anidados.
      */
-    protected abstract T buildInstance();
+    protected abstract T buildInstance() throws InstanceBuildException;
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary;
+
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.LazyBuilderProperty;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Clase que almacena, por cada clase, los metodos de acceso a las propiedades
+ * de sus instancias, utilizados para cargar un objeto {@link BuilderPattern} a
+ * partir de una instancia existente.
+ * <p>
+ * Los metodos de acceso son los metodos publicos sin parametros cuyo nombre
+ * comienza con {@code get}, o con {@code is} si devuelven un valor logico. La
+ * llave de cada propiedad es el nombre del metodo sin el prefijo y con la
+ * primera letra en minuscula. Los metodos de acceso de cada clase se buscan
+ * una unica vez. Los metodos de las clases no publicas solo son accesibles si
+ * estan declarados en una clase o interfaz publica.</p>
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+final class InstanceAccessors {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, MethodHandle>> ACCESSORS = new ClassValue<Map<String, MethodHandle>>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return find(type);
+        }
+    };
+
+    private InstanceAccessors() {
+    }
+
+    /**
+     * Devuelve los metodos de acceso a las propiedades de las instancias de
+     * una clase.
+     *
+     * @param type la clase de las instancias.
+     * @return un mapa inmodificable con la llave de cada propiedad y su metodo
+     * de acceso.
+     * @throws IOException si alguno de los metodos de acceso no es accesible,
+     * ej: la clase no es publica y el metodo no esta declarado en una clase o
+     * interfaz publica.
+     */
+    static Map<String, MethodHandle> of(Class<?> type) throws IOException {
+        try {
+            return ACCESSORS.get(type);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Crea una propiedad cuyo valor se obtiene de una instancia a traves de su
+     * metodo de acceso la primera vez que es solicitado.
+     *
+     * @param key la llave que identifica a la propiedad.
+     * @param accessor el metodo de acceso al valor de la propiedad.
+     * @param source la instancia de la cual obtener el valor.
+     * @return la nueva propiedad diferida.
+     */
+    static BuilderProperty<String, Object> property(String key, MethodHandle accessor, Object source) {
+        return new LazyBuilderProperty<>(key, () -> {
+            try {
+                return accessor.invokeExact(source);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new UncheckedIOException(new IOException(
+                        "Error, cannot read property " + key + ".", ex));
+            }
+        });
+    }
+
+    private static Map<String, MethodHandle> find(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        Map<String, MethodHandle> accessors = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            String key = keyOf(method);
+            if (key == null || accessors.containsKey(key)) {
+                continue;
+            }
+            try {
+                accessors.put(key, lookup.unreflect(publicMethod(type, method)).asType(ACCESSOR_TYPE));
+            } catch (IllegalAccessException ex) {
+                throw new UncheckedIOException(new IOException("Error, inaccessible property " + key + ".",
+                        new Throwable("The accessor " + method.getName() + " of " + type.getName()
+                                + " is not declared in a public class or interface.")));
+            }
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    /**
+     * Devuelve el metodo equivalente declarado en una clase o interfaz
+     * publica, de forma que los metodos de acceso de las clases no publicas
+     * que implementan interfaces publicas sean accesibles.
+     *
+     * @param type la clase de las instancias.
+     * @param method el metodo de acceso.
+     * @return el metodo declarado en una clase o interfaz publica, o el propio
+     * metodo si no existe.
+     */
+    private static Method publicMethod(Class<?> type, Method method) {
+        if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return method;
+        }
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            if (Modifier.isPublic(current.getModifiers())) {
+                try {
+                    Method candidate = current.getMethod(method.getName());
+                    if (Modifier.isPublic(candidate.getDeclaringClass().getModifiers())) {
+                        return candidate;
+                    }
+                } catch (NoSuchMethodException ex) {
+                    continue;
+                }
+            }
+            if (current.getSuperclass() != null) {
+                pending.add(current.getSuperclass());
+            }
+            pending.addAll(Arrays.asList(current.getInterfaces()));
+        }
+        return method;
+    }
+
+    private static String keyOf(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                || method.getReturnType() == void.class || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = method.getName();
+        String key;
+        if (name.startsWith("get") && name.length() > 3) {
+            key = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            key = name.substring(2);
+        } else {
+            return null;
+        }
+        if (key.length() > 1 && Character.isUpperCase(key.charAt(1)) && Character.isUpperCase(key.charAt(0))) {
+            return key;
+        }
+        return Character.toLowerCase(key.charAt(0)) + key.substring(1);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Interface que garantiza la validacion de los datos de una propiedad sin
+ * bloquear el hilo que realiza la validacion.
+ * <p>
+ * {@code AsyncPropertyValidator} es utilizada cuando la validacion del valor
+ * de una propiedad requiere consultar recursos que bloquearian al hilo actual,
+ * ej: bases de datos o indices almacenados en disco. La validacion devuelve un
+ * objeto {@code CompletionStage} que se completa cuando la validacion termina
+ * y que se completa de forma excepcional con una excepcion
+ * {@link InvalidPropertyException} si el valor no es valido.
+ * </p>
+ * <p>
+ * Las propiedades con un validador asincrono no se validan al ser agregadas al
+ * objeto {@code BuilderPattern}, sino durante la construccion de nuevas
+ * instancias. El metodo
+ * {@link io.github.ldelpino.libs.builderlibrary.BuilderPattern#buildAsync()}
+ * compone las validaciones sin bloquear el hilo actual, mientras que el metodo
+ * {@link io.github.ldelpino.libs.builderlibrary.BuilderPattern#build()} espera
+ * por el resultado de cada validacion.
+ * </p>
+ *
+ * @author ldelpino
+ * @param <T> el tipo de dato del valor de la propiedad.
+ * @see io.github.ldelpino.libs.builderlibrary.property.PropertyValidator
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@FunctionalInterface
+public interface AsyncPropertyValidator<T> extends PropertyValidator<T> {
+
+    /**
+     * Realiza el proceso de validacion de los datos de una propiedad sin
+     * bloquear el hilo actual.
+     *
+     * @param value el valor de la propiedad a asignar.
+     * @return la etapa que se completa cuando termina la validacion, de forma
+     * excepcional con una excepcion {@link InvalidPropertyException} si el
+     * valor no es valido.
+     */
+    public CompletionStage<Void> validateAsync(T value);
+
+    /**
+     * Realiza el proceso de validacion de los datos de una propiedad,
+     * esperando por el resultado de la validacion asincrona.
+     *
+     * @param value el valor de la propiedad a asignar.
+     * @throws InvalidPropertyException si ocurre un error en la validacion de
+     * los datos y por tanto la nueva propiedad no debe ser aceptada.
+     */
+    @Override
+    public default void validate(T value) throws InvalidPropertyException {
+        try {
+            validateAsync(value).toCompletableFuture().join();
+        } catch (CompletionException | CancellationException ex) {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof InvalidPropertyException) {
+                throw (InvalidPropertyException) cause;
+            }
+            throw new InvalidPropertyException("Error, asynchronous validation failed.", cause);
+        }
+    }
+
+    /**
+     * Devuelve un validador asincrono a partir de un validador sincrono, la
+     * validacion se realiza en el hilo que solicita la validacion.
+     *
+     * @param <T> el tipo de dato del valor de la propiedad.
+     * @param validator el validador sincrono.
+     * @return el validador asincrono, el mismo validador si ya es asincrono.
+     */
+    public static <T> AsyncPropertyValidator<T> of(PropertyValidator<T> validator) {
+        if (validator instanceof AsyncPropertyValidator) {
+            return (AsyncPropertyValidator<T>) validator;
+        }
+        return value -> {
+            try {
+                validator.validate(value);
+                return CompletableFuture.completedFuture(null);
+            } catch (InvalidPropertyException | RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        };
+    }
+
+    /**
+     * Devuelve un validador asincrono a partir de un validador sincrono, la
+     * validacion se realiza en el ejecutor especificado.
+     *
+     * @param <T> el tipo de dato del valor de la propiedad.
+     * @param validator el validador sincrono.
+     * @param executor el ejecutor donde se realiza la validacion.
+     * @return el validador asincrono, el mismo validador si ya es asincrono.
+     */
+    public static <T> AsyncPropertyValidator<T> of(PropertyValidator<T> validator, Executor executor) {
+        if (validator instanceof AsyncPropertyValidator) {
+            return (AsyncPropertyValidator<T>) validator;
+        }
+        AsyncPropertyValidator<T> inline = of(validator);
+        return value -> CompletableFuture.supplyAsync(() -> inline.validateAsync(value), executor)
+                .thenCompose(stage -> stage);
+    }
+}
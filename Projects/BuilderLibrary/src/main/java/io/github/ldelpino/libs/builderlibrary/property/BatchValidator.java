@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Base de los validadores de arreglos de valores primitivos, que contiene el
+ * recorrido de los arreglos y la notificacion de los valores no validos.
+ * <p>
+ * Cada subclase solo define si un valor de su tipo primitivo es aceptado, el
+ * recorrido cuenta los valores no validos sin ramas ni conversiones y solo en
+ * caso de existir valores no validos realiza un segundo recorrido para obtener
+ * sus indices.
+ * </p>
+ *
+ * @author ldelpino
+ * @param <T> el tipo de dato del valor de la propiedad.
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+abstract class BatchValidator<T> implements PropertyValidator<T> {
+
+    private static final int[] NO_FAILURES = new int[0];
+
+    /**
+     * La descripcion de los valores aceptados por el validador.
+     */
+    final String description;
+
+    BatchValidator(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Establece si un valor no nulo es aceptado por el validador.
+     *
+     * @param value el valor a validar.
+     * @return <code>true</code> si el valor es valido.
+     */
+    abstract boolean accepts(T value);
+
+    /**
+     * Realiza el proceso de validacion de un valor.
+     *
+     * @param value el valor de la propiedad a asignar.
+     * @throws InvalidPropertyException si el valor es nulo o no es valido.
+     */
+    @Override
+    public void validate(T value) throws InvalidPropertyException {
+        if (value == null || !accepts(value)) {
+            throw new InvalidPropertyException("Error, invalid value " + value + ".",
+                    new Throwable("The value must be " + description + "."));
+        }
+    }
+
+    /**
+     * Establece si el validador es puro.
+     *
+     * @return siempre devuelve <code>true</code>.
+     */
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
+    /**
+     * Devuelve los indices de los valores no validos de un segmento de un
+     * arreglo.
+     *
+     * @param length la longitud del arreglo.
+     * @param from el indice del primer valor a validar, inclusivo.
+     * @param to el indice del ultimo valor a validar, exclusivo.
+     * @param accepted establece si el valor de un indice es valido.
+     * @return los indices de los valores no validos en orden ascendente, o un
+     * arreglo vacio si todos los valores son validos.
+     * @throws IndexOutOfBoundsException si el segmento no esta contenido en el
+     * arreglo.
+     */
+    static int[] failures(int length, int from, int to, IntPredicate accepted) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to
+                    + ") out of bounds for length " + length);
+        }
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            count += accepted.test(i) ? 0 : 1;
+        }
+        if (count == 0) {
+            return NO_FAILURES;
+        }
+        int[] indices = new int[count];
+        int next = 0;
+        for (int i = from; i < to && next < count; i++) {
+            if (!accepted.test(i)) {
+                indices[next++] = i;
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Devuelve la descripcion de los valores aceptados por el validador.
+     *
+     * @return la descripcion del validador.
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + description + "]";
+    }
+}
@@ -71,6 +71,18 @@ public class BuilderProperty<K, V> {
      */
     protected PropertyValidator<V> propertyValidator;
 
+    /**
+     * El tipo de dato al cual se convierte el valor de la propiedad antes de
+     * ser validado, si es nulo el valor no se convierte.
+     */
+    protected Class<? extends V> targetType;
+
+    /**
+     * Establece si la propiedad es inmodificable, por pertenecer a un
+     * prototipo compartido con sus copias de trabajo.
+     */
+    private volatile boolean frozen;
+
     /**
      * Construye una nueva propiedad a partir de la llave y el valor.
      * <p>
@@ -108,8 +120,25 @@ public class BuilderProperty<K, V> {
      * @param propertyValidator el validador del valor de la propiedad.
      */
     public BuilderProperty(K key, V value, PropertyValidator<V> propertyValidator) {
+        this(key, value, null, propertyValidator);
+    }
+
+    /**
+     * Construye una nueva propiedad a partir de la llave, el valor, el tipo de
+     * dato al cual convertir el valor y el validador de la propiedad.
+     *
+     * @param key la llave que identifica a la propiedad.
+     * @param value el valor el cual es utilizado para la creacion de nuevas
+     * instancias.
+     * @param targetType el tipo de dato al cual se convierte el valor antes de
+     * ser validado.
+     * @param propertyValidator el validador del valor de la propiedad.
+     */
+    public BuilderProperty(K key, V value, Class<? extends V> targetType,
+            PropertyValidator<V> propertyValidator) {
         this.key = key;
         this.value = value;
+        this.targetType = targetType;
         this.propertyValidator = propertyValidator;
     }
 
@@ -132,6 +161,7 @@ public class BuilderProperty<K, V> {
      * @param key la nueva llave de la propiedad.
      */
     public void setKey(K key) {
+        checkFrozen();
         this.key = key;
     }
 
@@ -154,6 +184,7 @@ public class BuilderProperty<K, V> {
      * @param value el nuevo valor a establecer en la propiedad.
      */
     public void setValue(V value) {
+        checkFrozen();
         this.value = value;
     }
 
@@ -176,9 +207,67 @@ public class BuilderProperty<K, V> {
      * @param propertyValidator el nuevo validador de la propiedad.
      */
     public void setPropertyValidator(PropertyValidator<V> propertyValidator) {
+        checkFrozen();
         this.propertyValidator = propertyValidator;
     }
 
+    /**
+     * Devuelve el tipo de dato al cual se convierte el valor de la propiedad.
+     *
+     * @return el tipo de dato del valor de la propiedad o {@code null} si el
+     * valor no se convierte.
+     */
+    public Class<? extends V> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Establece el tipo de dato al cual se convierte el valor de la propiedad.
+     * <p>
+     * La conversion se realiza una unica vez, cuando la propiedad es agregada
+     * a un objeto {@code BuilderPattern} y antes de ser validada, a partir de
+     * los convertidores del servicio
+     * {@link io.github.ldelpino.libs.builderlibrary.service.ConverterService}.</p>
+     *
+     * @param targetType el nuevo tipo de dato del valor de la propiedad o
+     * {@code null} para no convertir el valor.
+     */
+    public void setTargetType(Class<? extends V> targetType) {
+        checkFrozen();
+        this.targetType = targetType;
+    }
+
+    /**
+     * Establece la propiedad como inmodificable, a partir de este momento la
+     * llave, el valor, el validador y el tipo de dato de la propiedad no pueden
+     * ser modificados. Las propiedades de un prototipo se establecen como
+     * inmodificables al establecer el prototipo como inmodificable, ver
+     * {@link io.github.ldelpino.libs.builderlibrary.BuilderPattern#freeze()}.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Establece si la propiedad es inmodificable.
+     *
+     * @return <code>true</code> si la propiedad no puede ser modificada.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Verifica que la propiedad pueda ser modificada.
+     *
+     * @throws IllegalStateException si la propiedad es inmodificable.
+     */
+    protected void checkFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("The property " + key + " is frozen.");
+        }
+    }
+
     /**
      * Realiza el proceso de validacion del valor actual de la propiedad.
      * <p>
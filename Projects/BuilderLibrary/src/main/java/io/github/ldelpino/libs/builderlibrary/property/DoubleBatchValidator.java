@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+/**
+ * Validador de valores de tipo {@code double} que permite validar tanto valores
+ * individuales como arreglos completos de valores primitivos.
+ * <p>
+ * Cuando es necesario validar grandes cantidades de valores numericos,
+ * validarlos uno a uno a traves de un objeto {@link PropertyValidator}
+ * requiere convertir cada valor a su clase envoltorio. {@code DoubleBatchValidator}
+ * valida directamente los arreglos de valores primitivos sin conversiones, y
+ * solo en caso de existir valores no validos realiza un segundo recorrido para
+ * obtener sus indices.
+ * </p>
+ * <p>
+ * Los validadores se crean a partir de sus metodos de fabrica, los cuales
+ * permiten validar rangos, valores no negativos y valores finitos, y se
+ * combinan a traves del metodo {@link #and(DoubleBatchValidator)}. Los
+ * validadores son puros, por lo cual pueden ser utilizados con la clase
+ * {@link MemoizedPropertyValidator}, y son utilizados por las columnas de la
+ * clase {@link io.github.ldelpino.libs.builderlibrary.BuilderBatch} para
+ * validar todas las filas de una columna.
+ * </p>
+ *
+ * @author ldelpino
+ * @see io.github.ldelpino.libs.builderlibrary.property.PropertyValidator
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public final class DoubleBatchValidator extends BatchValidator<Double> {
+
+    private final double min;
+
+    private final double max;
+
+    /**
+     * Devuelve un validador que acepta los valores dentro de un rango, el valor
+     * {@code NaN} nunca es aceptado.
+     *
+     * @param min el menor valor aceptado.
+     * @param max el mayor valor aceptado.
+     * @return el nuevo validador.
+     * @throws IllegalArgumentException si el menor valor es mayor que el mayor
+     * valor o alguno de ellos es {@code NaN}.
+     */
+    public static DoubleBatchValidator range(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("The minimum cannot be greater than the maximum.");
+        }
+        return new DoubleBatchValidator(min, max, "range [" + min + ", " + max + "]");
+    }
+
+    /**
+     * Devuelve un validador que acepta los valores mayores o iguales que cero,
+     * incluido el infinito positivo.
+     *
+     * @return el nuevo validador.
+     */
+    public static DoubleBatchValidator nonNegative() {
+        return new DoubleBatchValidator(0D, Double.POSITIVE_INFINITY, "non negative");
+    }
+
+    /**
+     * Devuelve un validador que acepta los valores finitos, o sea ni infinitos
+     * ni {@code NaN}.
+     *
+     * @return el nuevo validador.
+     */
+    public static DoubleBatchValidator finite() {
+        return new DoubleBatchValidator(-Double.MAX_VALUE, Double.MAX_VALUE, "finite");
+    }
+
+    private DoubleBatchValidator(double min, double max, String description) {
+        super(description);
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Devuelve un validador que solo acepta los valores aceptados tanto por
+     * este validador como por el validador especificado.
+     *
+     * @param other el validador a combinar con este validador.
+     * @return el nuevo validador.
+     * @throws IllegalArgumentException si los rangos de ambos validadores no
+     * tienen valores en comun.
+     */
+    public DoubleBatchValidator and(DoubleBatchValidator other) {
+        double lo = Math.max(min, other.min);
+        double hi = Math.min(max, other.max);
+        if (lo > hi) {
+            throw new IllegalArgumentException("The ranges of the validators do not overlap.");
+        }
+        return new DoubleBatchValidator(lo, hi, description + " and " + other.description);
+    }
+
+    @Override
+    boolean accepts(Double value) {
+        return accepts(value.doubleValue());
+    }
+
+    /**
+     * Realiza el proceso de validacion de todos los valores de un arreglo.
+     *
+     * @param values los valores a validar.
+     * @return los indices de los valores no validos en orden ascendente, o un
+     * arreglo vacio si todos los valores son validos.
+     */
+    public int[] validateBatch(double[] values) {
+        return validateBatch(values, 0, values.length);
+    }
+
+    /**
+     * Realiza el proceso de validacion de los valores de un segmento de un
+     * arreglo.
+     *
+     * @param values los valores a validar.
+     * @param from el indice del primer valor a validar, inclusivo.
+     * @param to el indice del ultimo valor a validar, exclusivo.
+     * @return los indices de los valores no validos en orden ascendente, o un
+     * arreglo vacio si todos los valores son validos.
+     * @throws IndexOutOfBoundsException si el segmento no esta contenido en el
+     * arreglo.
+     */
+    public int[] validateBatch(double[] values, int from, int to) {
+        return failures(values.length, from, to, i -> accepts(values[i]));
+    }
+
+    private boolean accepts(double value) {
+        return (value >= min) & (value <= max);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import io.github.ldelpino.libs.builderlibrary.service.ConverterService;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+/**
+ * Propiedad cuyo valor se calcula a partir de un objeto {@code Supplier} la
+ * primera vez que es solicitado.
+ * <p>
+ * Cuando el valor de una propiedad es costoso de calcular y no siempre es
+ * utilizado en la creacion de nuevas instancias, {@code LazyBuilderProperty}
+ * permite diferir su calculo hasta la primera llamada al metodo
+ * {@link #getValue()}. El valor calculado se almacena, por lo cual el objeto
+ * {@code Supplier} se ejecuta una unica vez aunque el valor sea solicitado
+ * desde varios hilos.
+ * </p>
+ * <p>
+ * La conversion del valor hacia el tipo de dato de la propiedad y su
+ * validacion se realizan en el momento de ser calculado, no cuando la propiedad
+ * es agregada al objeto {@code BuilderPattern}. Si el valor calculado no puede
+ * ser convertido o no es valido el error se almacena y en cada solicitud del
+ * valor se lanza una nueva excepcion cuya causa es el error almacenado, de
+ * forma que los hilos que modifican la excepcion recibida no compartan su
+ * estado.
+ * </p>
+ *
+ * @author ldelpino
+ * @see io.github.ldelpino.libs.builderlibrary.property.BuilderProperty
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ * @param <K> el tipo de dato de la llave de la propiedad.
+ * @param <V> el tipo de dato del valor de la propiedad.
+ */
+public class LazyBuilderProperty<K, V> extends BuilderProperty<K, V> {
+
+    /**
+     * El objeto que calcula el valor de la propiedad, es nulo una vez que el
+     * valor ha sido calculado.
+     */
+    private Supplier<? extends V> supplier;
+
+    /**
+     * El error de validacion del valor calculado o {@code null} si el valor es
+     * valido.
+     */
+    private InvalidPropertyException failure;
+
+    /**
+     * Establece si el valor de la propiedad ya fue calculado.
+     */
+    private volatile boolean materialized;
+
+    /**
+     * Construye una nueva propiedad a partir de la llave y el objeto que
+     * calcula el valor de la propiedad.
+     *
+     * @param key la llave que identifica a la propiedad.
+     * @param supplier el objeto que calcula el valor de la propiedad.
+     */
+    public LazyBuilderProperty(K key, Supplier<? extends V> supplier) {
+        this(key, supplier, null);
+    }
+
+    /**
+     * Construye una nueva propiedad a partir de la llave, el objeto que
+     * calcula el valor y el validador de la propiedad.
+     *
+     * @param key la llave que identifica a la propiedad.
+     * @param supplier el objeto que calcula el valor de la propiedad.
+     * @param propertyValidator el validador del valor de la propiedad.
+     */
+    public LazyBuilderProperty(K key, Supplier<? extends V> supplier, PropertyValidator<V> propertyValidator) {
+        super(key, null, propertyValidator);
+        if (supplier == null) {
+            throw new IllegalArgumentException("The supplier cannot be null.");
+        }
+        this.supplier = supplier;
+        this.failure = null;
+        this.materialized = false;
+    }
+
+    /**
+     * Establece si el valor de la propiedad ya fue calculado.
+     *
+     * @return <code>true</code> si el valor ya fue calculado, de lo contrario
+     * devuelve <code>false</code>.
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * Calcula, convierte y valida el valor de la propiedad si aun no ha sido
+     * calculado.
+     *
+     * @return el valor de la propiedad.
+     * @throws InvalidPropertyException si el valor calculado no puede ser
+     * convertido o no es valido.
+     */
+    @SuppressWarnings("unchecked")
+    public V materialize() throws InvalidPropertyException {
+        if (!materialized) {
+            synchronized (this) {
+                if (!materialized) {
+                    V computed = supplier.get();
+                    value = computed;
+                    try {
+                        if (targetType != null) {
+                            value = (V) ConverterService.getDefault().convert(computed, targetType);
+                        }
+                        if (propertyValidator != null) {
+                            propertyValidator.validate(value);
+                        }
+                    } catch (InvalidPropertyException ex) {
+                        failure = ex;
+                    }
+                    supplier = null;
+                    materialized = true;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failed();
+        }
+        return value;
+    }
+
+    /**
+     * Devuelve el valor de la propiedad, calculandolo y validandolo la primera
+     * vez que es solicitado.
+     *
+     * @return el valor de la propiedad.
+     * @throws UncheckedIOException si el valor calculado no es valido, la causa
+     * es la excepcion {@link InvalidPropertyException} correspondiente.
+     */
+    @Override
+    public V getValue() {
+        try {
+            return materialize();
+        } catch (InvalidPropertyException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Establece un nuevo valor para la propiedad, el objeto que calcula el
+     * valor ya no es utilizado.
+     *
+     * @param value el nuevo valor a establecer en la propiedad.
+     */
+    @Override
+    public void setValue(V value) {
+        checkFrozen();
+        synchronized (this) {
+            this.value = value;
+            this.supplier = null;
+            this.failure = null;
+            this.materialized = true;
+        }
+    }
+
+    /**
+     * Realiza el proceso de validacion del valor de la propiedad solo si ya
+     * fue calculado, de lo contrario la validacion se realiza cuando el valor
+     * sea calculado.
+     *
+     * @throws InvalidPropertyException si el valor calculado no es valido.
+     */
+    @Override
+    public void validate() throws InvalidPropertyException {
+        if (materialized) {
+            if (failure != null) {
+                throw failed();
+            }
+            super.validate();
+        }
+    }
+
+    /**
+     * Crea la excepcion lanzada en cada solicitud del valor cuando el valor
+     * calculado no es valido.
+     *
+     * @return la nueva excepcion cuya causa es el error almacenado.
+     */
+    private InvalidPropertyException failed() {
+        return new InvalidPropertyException(failure.getMessage(), failure);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+/**
+ * Validador de valores de tipo {@code long} que permite validar tanto valores
+ * individuales como arreglos completos de valores primitivos.
+ * <p>
+ * Cuando es necesario validar grandes cantidades de valores numericos,
+ * validarlos uno a uno a traves de un objeto {@link PropertyValidator}
+ * requiere convertir cada valor a su clase envoltorio. {@code LongBatchValidator}
+ * valida directamente los arreglos de valores primitivos sin conversiones, y
+ * solo en caso de existir valores no validos realiza un segundo recorrido para
+ * obtener sus indices.
+ * </p>
+ * <p>
+ * Los validadores se crean a partir de sus metodos de fabrica, los cuales
+ * permiten validar rangos, valores no negativos y mascaras de bits, y se
+ * combinan a traves del metodo {@link #and(LongBatchValidator)}, ej: un rango y una
+ * mascara de bits. Los validadores son puros, por lo cual pueden ser
+ * utilizados con la clase {@link MemoizedPropertyValidator}, y son utilizados
+ * por las columnas de la clase
+ * {@link io.github.ldelpino.libs.builderlibrary.BuilderBatch} para validar
+ * todas las filas de una columna.
+ * </p>
+ *
+ * @author ldelpino
+ * @see io.github.ldelpino.libs.builderlibrary.property.PropertyValidator
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public final class LongBatchValidator extends BatchValidator<Long> {
+
+    private final long min;
+
+    private final long max;
+
+    private final long mask;
+
+    /**
+     * Devuelve un validador que acepta los valores dentro de un rango.
+     *
+     * @param min el menor valor aceptado.
+     * @param max el mayor valor aceptado.
+     * @return el nuevo validador.
+     * @throws IllegalArgumentException si el menor valor es mayor que el mayor
+     * valor.
+     */
+    public static LongBatchValidator range(long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("The minimum cannot be greater than the maximum.");
+        }
+        return new LongBatchValidator(min, max, -1, "range [" + min + ", " + max + "]");
+    }
+
+    /**
+     * Devuelve un validador que acepta los valores mayores o iguales que cero.
+     *
+     * @return el nuevo validador.
+     */
+    public static LongBatchValidator nonNegative() {
+        return new LongBatchValidator(0, Long.MAX_VALUE, -1, "non negative");
+    }
+
+    /**
+     * Devuelve un validador que acepta los valores cuyos bits activos estan
+     * contenidos en una mascara.
+     *
+     * @param allowed la mascara de bits permitidos.
+     * @return el nuevo validador.
+     */
+    public static LongBatchValidator bitmask(long allowed) {
+        return new LongBatchValidator(Long.MIN_VALUE, Long.MAX_VALUE, allowed, "bitmask 0x" + Long.toHexString(allowed));
+    }
+
+    private LongBatchValidator(long min, long max, long mask, String description) {
+        super(description);
+        this.min = min;
+        this.max = max;
+        this.mask = mask;
+    }
+
+    /**
+     * Devuelve un validador que solo acepta los valores aceptados tanto por
+     * este validador como por el validador especificado.
+     *
+     * @param other el validador a combinar con este validador.
+     * @return el nuevo validador.
+     * @throws IllegalArgumentException si los rangos de ambos validadores no
+     * tienen valores en comun.
+     */
+    public LongBatchValidator and(LongBatchValidator other) {
+        long lo = Math.max(min, other.min);
+        long hi = Math.min(max, other.max);
+        if (lo > hi) {
+            throw new IllegalArgumentException("The ranges of the validators do not overlap.");
+        }
+        return new LongBatchValidator(lo, hi, mask & other.mask, description + " and " + other.description);
+    }
+
+    @Override
+    boolean accepts(Long value) {
+        return accepts(value.longValue());
+    }
+
+    /**
+     * Realiza el proceso de validacion de todos los valores de un arreglo.
+     *
+     * @param values los valores a validar.
+     * @return los indices de los valores no validos en orden ascendente, o un
+     * arreglo vacio si todos los valores son validos.
+     */
+    public int[] validateBatch(long[] values) {
+        return validateBatch(values, 0, values.length);
+    }
+
+    /**
+     * Realiza el proceso de validacion de los valores de un segmento de un
+     * arreglo.
+     *
+     * @param values los valores a validar.
+     * @param from el indice del primer valor a validar, inclusivo.
+     * @param to el indice del ultimo valor a validar, exclusivo.
+     * @return los indices de los valores no validos en orden ascendente, o un
+     * arreglo vacio si todos los valores son validos.
+     * @throws IndexOutOfBoundsException si el segmento no esta contenido en el
+     * arreglo.
+     */
+    public int[] validateBatch(long[] values, int from, int to) {
+        return failures(values.length, from, to, i -> accepts(values[i]));
+    }
+
+    private boolean accepts(long value) {
+        return (value >= min) & (value <= max) & ((value & ~mask) == 0);
+    }
+}
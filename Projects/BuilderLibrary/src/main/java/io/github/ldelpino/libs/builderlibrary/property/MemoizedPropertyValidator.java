@@ -0,0 +1,289 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validador que almacena el resultado de las validaciones de otro validador
+ * puro para los valores ya validados.
+ * <p>
+ * Cuando los valores de una propiedad se repiten con frecuencia, ej: codigos
+ * de paises o monedas, el mismo valor es validado una y otra vez por el mismo
+ * validador. {@code MemoizedPropertyValidator} almacena el resultado de la
+ * validacion de cada valor, tanto si es valido como si no lo es, y devuelve el
+ * resultado almacenado en las validaciones posteriores del mismo valor sin
+ * ejecutar nuevamente el validador original.
+ * </p>
+ * <p>
+ * La cantidad de resultados almacenados esta limitada, incluso con accesos
+ * concurrentes, cuando se alcanza el limite se eliminan resultados almacenados
+ * para dar espacio a los nuevos. Los errores almacenados se lanzan nuevamente
+ * como una nueva excepcion {@link InvalidPropertyException} en cada
+ * validacion, sin traza de ejecucion, con el mismo mensaje y la misma causa
+ * del error original; si el error original es una subclase de
+ * {@link InvalidPropertyException} su tipo no se conserva. Los valores nulos
+ * no se almacenan. El validador puede ser utilizado de forma concurrente y sus
+ * contadores de aciertos, fallos y eliminaciones no bloquean a los hilos.
+ * </p>
+ *
+ * @author ldelpino
+ * @param <T> el tipo de dato del valor de la propiedad.
+ * @see io.github.ldelpino.libs.builderlibrary.property.PropertyValidator#isPure()
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class MemoizedPropertyValidator<T> implements PropertyValidator<T> {
+
+    /**
+     * Resultado almacenado para los valores validos.
+     */
+    private static final Object VALID = new Object();
+
+    private final PropertyValidator<T> validator;
+
+    private final int maximumSize;
+
+    private final Map<Object, Object> outcomes;
+
+    /**
+     * La cantidad de resultados almacenados mas los reservados por los hilos
+     * que estan almacenando un resultado, nunca supera la cantidad maxima.
+     */
+    private final AtomicInteger reserved;
+
+    private final LongAdder hits;
+
+    private final LongAdder misses;
+
+    private final LongAdder evictions;
+
+    /**
+     * Construye un nuevo validador a partir del validador puro cuyos
+     * resultados se almacenan y la cantidad maxima de resultados almacenados.
+     *
+     * @param validator el validador puro.
+     * @param maximumSize la cantidad maxima de resultados almacenados.
+     * @throws IllegalArgumentException si el validador es nulo o no es puro o
+     * la cantidad maxima no es positiva.
+     */
+    public MemoizedPropertyValidator(PropertyValidator<T> validator, int maximumSize) {
+        if (validator == null || !validator.isPure()) {
+            throw new IllegalArgumentException("The validator must be declared as pure.");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive.");
+        }
+        this.validator = validator;
+        this.maximumSize = maximumSize;
+        this.outcomes = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+        this.reserved = new AtomicInteger();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Devuelve un validador que almacena los resultados del validador
+     * especificado, si el validador no es puro se devuelve el mismo validador.
+     *
+     * @param <T> el tipo de dato del valor de la propiedad.
+     * @param validator el validador cuyos resultados se almacenan.
+     * @param maximumSize la cantidad maxima de resultados almacenados.
+     * @return el validador que almacena los resultados o el mismo validador si
+     * no es puro.
+     */
+    public static <T> PropertyValidator<T> of(PropertyValidator<T> validator, int maximumSize) {
+        if (validator == null || !validator.isPure() || validator instanceof MemoizedPropertyValidator) {
+            return validator;
+        }
+        return new MemoizedPropertyValidator<>(validator, maximumSize);
+    }
+
+    /**
+     * Realiza el proceso de validacion de los datos de una propiedad,
+     * utilizando el resultado almacenado si el valor ya fue validado.
+     *
+     * @param value el valor de la propiedad a asignar.
+     * @throws InvalidPropertyException si ocurre un error en la validacion de
+     * los datos y por tanto la nueva propiedad no debe ser aceptada.
+     */
+    @Override
+    public void validate(T value) throws InvalidPropertyException {
+        if (value == null) {
+            validator.validate(null);
+            return;
+        }
+        Object outcome = outcomes.get(value);
+        if (outcome != null) {
+            hits.increment();
+            if (outcome != VALID) {
+                throw new CachedFailure((InvalidPropertyException) outcome);
+            }
+            return;
+        }
+        misses.increment();
+        try {
+            validator.validate(value);
+            store(value, VALID);
+        } catch (InvalidPropertyException ex) {
+            store(value, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Establece si el validador es puro.
+     *
+     * @return siempre devuelve <code>true</code>.
+     */
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
+    /**
+     * Devuelve el validador cuyos resultados se almacenan.
+     *
+     * @return el validador puro.
+     */
+    public PropertyValidator<T> getValidator() {
+        return validator;
+    }
+
+    /**
+     * Devuelve la cantidad maxima de resultados almacenados.
+     *
+     * @return la cantidad maxima de resultados.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Devuelve la cantidad actual de resultados almacenados.
+     *
+     * @return la cantidad de resultados almacenados.
+     */
+    public int size() {
+        return outcomes.size();
+    }
+
+    /**
+     * Devuelve la cantidad de validaciones resueltas a partir de un resultado
+     * almacenado.
+     *
+     * @return la cantidad de aciertos.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Devuelve la cantidad de validaciones realizadas por el validador puro.
+     *
+     * @return la cantidad de fallos.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Devuelve la cantidad de resultados eliminados para dar espacio a nuevos
+     * resultados.
+     *
+     * @return la cantidad de eliminaciones.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Elimina todos los resultados almacenados.
+     */
+    public void clear() {
+        for (Object key : outcomes.keySet()) {
+            if (outcomes.remove(key) != null) {
+                reserved.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Almacena el resultado de la validacion de un valor. Antes de agregar el
+     * resultado se reserva su espacio, eliminando un resultado almacenado si
+     * no existe espacio disponible; si no es posible reservar el espacio el
+     * resultado no se almacena.
+     *
+     * @param value el valor validado.
+     * @param outcome el resultado de la validacion.
+     */
+    private void store(Object value, Object outcome) {
+        if (outcomes.containsKey(value) || !reserve()) {
+            return;
+        }
+        if (outcomes.putIfAbsent(value, outcome) != null) {
+            reserved.decrementAndGet();
+        }
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int count = reserved.get();
+            if (count < maximumSize) {
+                if (reserved.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            } else if (!evict()) {
+                return false;
+            }
+        }
+    }
+
+    private boolean evict() {
+        for (Object key : outcomes.keySet()) {
+            if (outcomes.remove(key) != null) {
+                reserved.decrementAndGet();
+                evictions.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Error de validacion lanzado a partir de un error almacenado, construido
+     * sin traza de ejecucion con el mensaje y la causa del error original, sin
+     * conservar el tipo del error original.
+     */
+    private static final class CachedFailure extends InvalidPropertyException {
+
+        private static final long serialVersionUID = 1L;
+
+        private CachedFailure(InvalidPropertyException failure) {
+            super(failure.getMessage(), failure.getCause() != null ? failure.getCause() : failure);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+/**
+ * Interface que permite la conversion del valor de una propiedad hacia el tipo
+ * de dato establecido por la propiedad.
+ * <p>
+ * {@code PropertyConverter} es utilizada cuando el valor de una propiedad es
+ * recibido en un tipo de dato diferente al tipo de dato esperado, ej: valores
+ * obtenidos como {@code String} desde archivos de configuracion o formularios,
+ * la conversion se realiza una unica vez antes de la validacion y el
+ * almacenamiento de la propiedad en el objeto {@code BuilderPattern}.
+ * </p>
+ * <p>
+ * La forma recomendada para su utilizacion es registrar una nueva instancia de
+ * la clase que implementa la interfaz en el servicio
+ * {@link io.github.ldelpino.libs.builderlibrary.service.ConverterService} y
+ * establecer el tipo de dato de la propiedad en el metodo
+ * {@link io.github.ldelpino.libs.builderlibrary.property.BuilderProperty#setTargetType(java.lang.Class)}.
+ * </p>
+ *
+ * @author ldelpino
+ * @param <S> el tipo de dato del valor a convertir.
+ * @param <T> el tipo de dato del valor convertido.
+ * @see io.github.ldelpino.libs.builderlibrary.service.ConverterService
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@FunctionalInterface
+public interface PropertyConverter<S, T> {
+
+    /**
+     * Realiza el proceso de conversion del valor de una propiedad.
+     *
+     * @param value el valor de la propiedad a convertir, nunca es nulo.
+     * @return el valor convertido.
+     * @throws InvalidPropertyException si el valor no puede ser convertido al
+     * tipo de dato esperado.
+     */
+    public T convert(S value) throws InvalidPropertyException;
+}
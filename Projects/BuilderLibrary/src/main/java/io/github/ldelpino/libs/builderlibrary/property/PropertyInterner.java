@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabla de llaves y valores canonicos de las propiedades de los constructores
+ * de instancias con un mismo nombre.
+ * <p>
+ * Cada propiedad agregada a un constructor posee su propia llave, la cual con
+ * frecuencia es una copia recien creada de la misma llave utilizada por los
+ * demas constructores. Cuando un constructor posee un objeto
+ * {@code PropertyInterner}, la llave de cada propiedad agregada se sustituye
+ * por su instancia canonica, compartida por todos los constructores que
+ * utilizan la misma tabla. Las llaves canonicas se mantienen mientras exista
+ * la tabla, hasta una cantidad maxima.
+ * </p>
+ * <p>
+ * Los valores de tipo {@code String} de las propiedades declaradas con pocos
+ * valores diferentes, ej: estados o codigos, se sustituyen tambien por su
+ * instancia canonica a traves de un objeto {@link StringInterner}. Los valores
+ * de las propiedades diferidas no se sustituyen. La tabla puede ser utilizada
+ * de forma concurrente.
+ * </p>
+ *
+ * @author ldelpino
+ * @see io.github.ldelpino.libs.builderlibrary.BuilderPattern#setPropertyInterner(io.github.ldelpino.libs.builderlibrary.property.PropertyInterner)
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public final class PropertyInterner {
+
+    private final int maximumKeys;
+
+    private final Map<String, String> keys;
+
+    private final Set<String> lowCardinality;
+
+    private final StringInterner values;
+
+    /**
+     * Construye una nueva tabla a partir de la cantidad maxima de llaves y de
+     * valores canonicos.
+     *
+     * @param maximumKeys la cantidad maxima de llaves canonicas.
+     * @param maximumValues la cantidad maxima de valores canonicos.
+     * @throws IllegalArgumentException si alguna de las cantidades maximas no
+     * es positiva.
+     */
+    public PropertyInterner(int maximumKeys, int maximumValues) {
+        this(maximumKeys, new StringInterner(maximumValues));
+    }
+
+    /**
+     * Construye una nueva tabla a partir de la cantidad maxima de llaves
+     * canonicas y la tabla de valores canonicos, la cual puede ser compartida
+     * con otras tablas.
+     *
+     * @param maximumKeys la cantidad maxima de llaves canonicas.
+     * @param values la tabla de valores canonicos.
+     * @throws IllegalArgumentException si la cantidad maxima no es positiva o
+     * la tabla de valores es nula.
+     */
+    public PropertyInterner(int maximumKeys, StringInterner values) {
+        if (maximumKeys <= 0 || values == null) {
+            throw new IllegalArgumentException("The maximum keys must be positive and the values not null.");
+        }
+        this.maximumKeys = maximumKeys;
+        this.keys = new ConcurrentHashMap<>();
+        this.lowCardinality = ConcurrentHashMap.newKeySet();
+        this.values = values;
+    }
+
+    /**
+     * Declara las propiedades cuyos valores poseen pocos valores diferentes y
+     * por tanto sus valores de tipo {@code String} se sustituyen por su
+     * instancia canonica.
+     *
+     * @param propertyNames las llaves de las propiedades.
+     */
+    public void declareLowCardinality(String... propertyNames) {
+        for (String propertyName : propertyNames) {
+            lowCardinality.add(internKey(propertyName));
+        }
+    }
+
+    /**
+     * Establece si una propiedad fue declarada con pocos valores diferentes.
+     *
+     * @param propertyName la llave de la propiedad.
+     * @return <code>true</code> si la propiedad fue declarada, de lo contrario
+     * devuelve <code>false</code>.
+     */
+    public boolean isLowCardinality(String propertyName) {
+        return propertyName != null && lowCardinality.contains(propertyName);
+    }
+
+    /**
+     * Devuelve las llaves de las propiedades declaradas con pocos valores
+     * diferentes.
+     *
+     * @return un conjunto inmodificable con las llaves de las propiedades.
+     */
+    public Set<String> getLowCardinality() {
+        return Collections.unmodifiableSet(lowCardinality);
+    }
+
+    /**
+     * Devuelve la instancia canonica de una llave.
+     *
+     * @param key la llave.
+     * @return la instancia canonica igual a la llave, la propia llave si la
+     * tabla esta llena o {@code null} si la llave es nula.
+     */
+    public String internKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        String canonical = keys.get(key);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (keys.size() >= maximumKeys) {
+            return key;
+        }
+        canonical = keys.putIfAbsent(key, key);
+        return canonical != null ? canonical : key;
+    }
+
+    /**
+     * Devuelve la instancia canonica del valor de una propiedad, si la
+     * propiedad fue declarada con pocos valores diferentes y el valor es de
+     * tipo {@code String}.
+     *
+     * @param key la llave de la propiedad.
+     * @param value el valor de la propiedad.
+     * @return la instancia canonica del valor o el propio valor.
+     */
+    public Object internValue(String key, Object value) {
+        if (value instanceof String && isLowCardinality(key)) {
+            return values.intern((String) value);
+        }
+        return value;
+    }
+
+    /**
+     * Devuelve la cantidad de llaves canonicas.
+     *
+     * @return la cantidad de llaves canonicas.
+     */
+    public int getKeyCount() {
+        return keys.size();
+    }
+
+    /**
+     * Devuelve la tabla de valores canonicos.
+     *
+     * @return la tabla de valores canonicos.
+     */
+    public StringInterner getValues() {
+        return values;
+    }
+}
@@ -64,4 +64,18 @@ public interface PropertyValidator<T> {
      * los datos y por tanto la nueva propiedad no debe ser aceptada.
      */
     public void validate(T value) throws InvalidPropertyException;
+
+    /**
+     * Establece si el validador es puro, o sea si el resultado de la validacion
+     * depende unicamente del valor validado.
+     * <p>
+     * Solo los validadores puros pueden almacenar el resultado de sus
+     * validaciones a traves de la clase {@link MemoizedPropertyValidator}.</p>
+     *
+     * @return <code>true</code> si el validador es puro, de lo contrario
+     * devuelve <code>false</code>.
+     */
+    public default boolean isPure() {
+        return false;
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tabla de cadenas canonicas con capacidad limitada y referencias debiles.
+ * <p>
+ * Cuando una misma cadena de caracteres es creada muchas veces, ej: al
+ * interpretar archivos o mensajes, cada copia ocupa su propia memoria aunque
+ * todas sean iguales. {@code StringInterner} devuelve para cada cadena una
+ * unica instancia canonica, de forma que las copias creadas pueden ser
+ * liberadas. A diferencia de {@link String#intern()}, las cadenas canonicas
+ * solo se mantienen mientras son referenciadas fuera de la tabla.
+ * </p>
+ * <p>
+ * La cantidad de cadenas canonicas esta limitada, cuando se alcanza el limite
+ * las nuevas cadenas se devuelven sin ser agregadas a la tabla. La tabla puede
+ * ser utilizada de forma concurrente, la misma se divide en segmentos
+ * seleccionados por el codigo hash de la cadena y cada segmento posee su
+ * propio bloqueo y una parte de la capacidad de la tabla, por lo que una
+ * cadena puede no ser agregada aunque la tabla en conjunto no este llena.
+ * </p>
+ *
+ * @author ldelpino
+ * @see io.github.ldelpino.libs.builderlibrary.property.PropertyInterner
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public final class StringInterner {
+
+    /**
+     * Cantidad maxima de segmentos de la tabla.
+     */
+    private static final int SEGMENTS = 16;
+
+    private final int maximumSize;
+
+    private final Segment[] segments;
+
+    /**
+     * Construye una nueva tabla a partir de la cantidad maxima de cadenas
+     * canonicas.
+     *
+     * @param maximumSize la cantidad maxima de cadenas canonicas.
+     * @throws IllegalArgumentException si la cantidad maxima no es positiva.
+     */
+    public StringInterner(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive.");
+        }
+        this.maximumSize = maximumSize;
+        int count = Math.min(SEGMENTS, maximumSize);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * Devuelve la instancia canonica de una cadena.
+     *
+     * @param value la cadena.
+     * @return la instancia canonica igual a la cadena, la propia cadena si la
+     * tabla esta llena o {@code null} si la cadena es nula.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = value.hashCode();
+        return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)].intern(value);
+    }
+
+    /**
+     * Devuelve la cantidad de cadenas canonicas aun referenciadas.
+     *
+     * @return la cantidad de cadenas canonicas.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Devuelve la cantidad maxima de cadenas canonicas.
+     *
+     * @return la cantidad maxima de cadenas canonicas.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Segmento de la tabla con su propio bloqueo y capacidad.
+     */
+    private static final class Segment {
+
+        private final int maximumSize;
+
+        private final Map<String, WeakReference<String>> table;
+
+        private Segment(int maximumSize) {
+            this.maximumSize = maximumSize;
+            this.table = new WeakHashMap<>();
+        }
+
+        private synchronized String intern(String value) {
+            WeakReference<String> reference = table.get(value);
+            String canonical = reference != null ? reference.get() : null;
+            if (canonical != null) {
+                return canonical;
+            }
+            if (table.size() < maximumSize) {
+                table.put(value, new WeakReference<>(value));
+            }
+            return value;
+        }
+
+        private synchronized int size() {
+            return table.size();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.service;
+
+import io.github.ldelpino.libs.builderlibrary.BuilderInterface;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Observador de los archivos de definiciones de constructores de instancias,
+ * que recarga los constructores en el servicio {@link BuilderService} cada vez
+ * que los archivos cambian.
+ * <p>
+ * Las recargas se realizan en un hilo independiente. Los cambios ocurridos en
+ * un intervalo corto de tiempo se agrupan en una unica recarga, los archivos
+ * modificados se interpretan y los constructores resultantes se agregan al
+ * registro en una unica sustitucion atomica. Si un archivo no puede ser
+ * interpretado se mantiene el constructor anterior y el error queda disponible
+ * a traves del metodo {@link #getLastFailure()}.</p>
+ * <p>
+ * El tiempo de cada recarga, desde que se detecta el cambio hasta que el
+ * registro es sustituido, se obtiene a traves del metodo
+ * {@link #getLastReloadLatency()}.</p>
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ * @see BuilderDefinitions
+ */
+public final class BuilderDefinitionWatcher implements Closeable {
+
+    /**
+     * El tiempo de espera en milisegundos para agrupar los cambios de los
+     * archivos en una unica recarga.
+     */
+    private static final long QUIET_PERIOD = 50;
+
+    /**
+     * El tiempo maximo en milisegundos que se agrupan los cambios de los
+     * archivos, de forma que un archivo modificado de forma continua no
+     * posponga la recarga indefinidamente.
+     */
+    private static final long MAXIMUM_DELAY = 1000;
+
+    private final BuilderService service;
+
+    private final Path directory;
+
+    private final Path file;
+
+    private final ClassLoader loader;
+
+    private final WatchService watchService;
+
+    private final Map<Path, String> names;
+
+    private final Thread thread;
+
+    private volatile boolean closed;
+
+    /*
+     * Los contadores solo son modificados por el hilo del observador.
+     */
+    private volatile long reloadCount;
+
+    private volatile long failureCount;
+
+    private volatile long lastReloadNanos;
+
+    private volatile Exception lastFailure;
+
+    /**
+     * Construye un nuevo observador, comienza a observar los archivos y carga
+     * las definiciones iniciales. Los archivos se observan antes de la carga
+     * inicial, de forma que los cambios ocurridos durante la misma sean
+     * recargados.
+     *
+     * @param service el servicio donde se agregan los constructores.
+     * @param path el archivo o el directorio de archivos de definiciones.
+     * @param loader el cargador de las clases declaradas en los archivos.
+     * @throws IOException si ocurre un error en la carga inicial de las
+     * definiciones o al observar los archivos.
+     * @throws IllegalStateException si el registro supera su limite de memoria
+     * y la politica del limite es {@link MemoryLimitPolicy#REJECT}.
+     */
+    BuilderDefinitionWatcher(BuilderService service, Path path, ClassLoader loader) throws IOException {
+        this.service = service;
+        Path absolute = path.toAbsolutePath();
+        this.directory = Files.isDirectory(absolute) ? absolute : absolute.getParent();
+        this.file = Files.isDirectory(absolute) ? null : absolute;
+        this.loader = loader;
+        this.names = new HashMap<>();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            Map<String, BuilderInterface> loaded = new HashMap<>();
+            for (Path definition : BuilderDefinitions.list(absolute)) {
+                Map.Entry<String, BuilderInterface> entry = BuilderDefinitions.parse(definition, loader);
+                loaded.put(entry.getKey(), entry.getValue());
+                names.put(definition, entry.getKey());
+            }
+            service.swapBuilders(loaded, Collections.<String>emptySet());
+        } catch (IOException | RuntimeException ex) {
+            watchService.close();
+            throw ex;
+        }
+        this.thread = new Thread(this::run, "builder-definitions-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Devuelve la cantidad de recargas realizadas.
+     *
+     * @return la cantidad de recargas.
+     */
+    public long getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * Devuelve la cantidad de archivos que no pudieron ser interpretados
+     * durante las recargas.
+     *
+     * @return la cantidad de errores.
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Devuelve el tiempo de la ultima recarga, desde que se detecto el cambio
+     * de los archivos hasta que el registro fue sustituido.
+     *
+     * @return el tiempo de la ultima recarga o {@link Duration#ZERO} si no se
+     * ha realizado ninguna recarga.
+     */
+    public Duration getLastReloadLatency() {
+        return Duration.ofNanos(lastReloadNanos);
+    }
+
+    /**
+     * Devuelve el ultimo error ocurrido al interpretar un archivo de
+     * definiciones, al agregar sus constructores al registro o durante la
+     * observacion de los archivos, la cual continua despues del error.
+     *
+     * @return el ultimo error o {@code null} si no ha ocurrido ninguno.
+     */
+    public Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Establece si el observador continua observando los archivos.
+     *
+     * @return <code>true</code> si el observador no ha sido cerrado.
+     */
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * Detiene la observacion de los archivos, los constructores ya cargados se
+     * mantienen en el registro.
+     *
+     * @throws IOException si ocurre un error al cerrar el servicio de
+     * observacion de archivos.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        watchService.close();
+    }
+
+    private void run() {
+        while (!closed) {
+            try {
+                WatchKey key = watchService.take();
+                long start = System.nanoTime();
+                long deadline = start + TimeUnit.MILLISECONDS.toNanos(MAXIMUM_DELAY);
+                Set<Path> changed = new HashSet<>();
+                do {
+                    collect(key, changed);
+                    long remaining = Math.min(deadline - System.nanoTime(),
+                            TimeUnit.MILLISECONDS.toNanos(QUIET_PERIOD));
+                    key = remaining > 0 ? watchService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                } while (key != null);
+                if (!changed.isEmpty()) {
+                    reload(changed, start);
+                }
+            } catch (ClosedWatchServiceException | InterruptedException ex) {
+                closed = true;
+            } catch (RuntimeException ex) {
+                failure(ex);
+            }
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                try {
+                    changed.addAll(BuilderDefinitions.list(file != null ? file : directory));
+                } catch (IOException ex) {
+                    failure(ex);
+                }
+                changed.addAll(names.keySet());
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            if (file != null ? path.equals(file) : BuilderDefinitions.isDefinition(path)) {
+                changed.add(path);
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Recarga los archivos modificados. Los nombres de los constructores de
+     * cada archivo solo se actualizan si el registro es sustituido, de forma
+     * que se mantengan en correspondencia con el registro si la sustitucion es
+     * rechazada.
+     */
+    private void reload(Set<Path> changed, long start) {
+        Map<String, BuilderInterface> added = new HashMap<>();
+        Set<String> removed = new HashSet<>();
+        Map<Path, String> staged = new HashMap<>();
+        Set<Path> deleted = new HashSet<>();
+        for (Path path : changed) {
+            String previous = names.get(path);
+            if (Files.isRegularFile(path)) {
+                try {
+                    Map.Entry<String, BuilderInterface> entry = BuilderDefinitions.parse(path, loader);
+                    added.put(entry.getKey(), entry.getValue());
+                    staged.put(path, entry.getKey());
+                    if (previous != null && !previous.equals(entry.getKey())) {
+                        removed.add(previous);
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    failure(ex);
+                }
+            } else if (previous != null) {
+                removed.add(previous);
+                deleted.add(path);
+            }
+        }
+        removed.removeAll(added.keySet());
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            try {
+                service.swapBuilders(added, removed);
+                names.keySet().removeAll(deleted);
+                names.putAll(staged);
+            } catch (IllegalStateException ex) {
+                failure(ex);
+            }
+        }
+        lastReloadNanos = System.nanoTime() - start;
+        reloadCount++;
+    }
+
+    private void failure(Exception ex) {
+        lastFailure = ex;
+        failureCount++;
+    }
+}
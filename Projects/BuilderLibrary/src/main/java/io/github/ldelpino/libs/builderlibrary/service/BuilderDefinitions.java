@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.service;
+
+import io.github.ldelpino.libs.builderlibrary.BuilderInterface;
+import io.github.ldelpino.libs.builderlibrary.BuilderValidator;
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyValidator;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Clase que interpreta los archivos de definiciones de constructores de
+ * instancias.
+ * <p>
+ * Cada archivo de definiciones es un archivo de propiedades con la extension
+ * {@code .properties} que define un unico constructor de instancias:</p>
+ * <pre>
+ * # nombre del constructor, por defecto el nombre del archivo sin extension
+ * builder.name=person
+ * # clase del constructor, debe poseer un constructor sin parametros
+ * builder.class=com.example.PersonBuilder
+ * # validador del constructor (opcional)
+ * builder.validator=com.example.PersonValidator
+ * # valores por defecto de las propiedades
+ * property.country=CU
+ * property.age=18
+ * # tipo de dato de una propiedad (opcional)
+ * type.age=java.lang.Integer
+ * # validador de una propiedad (opcional)
+ * validator.country=com.example.CountryValidator
+ * </pre>
+ * <p>
+ * Los valores de las propiedades se convierten al tipo de dato declarado a
+ * traves del servicio {@link ConverterService} y se validan con el validador
+ * declarado antes de ser agregados al constructor.</p>
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public final class BuilderDefinitions {
+
+    /**
+     * La extension de los archivos de definiciones.
+     */
+    public static final String EXTENSION = ".properties";
+
+    private static final String PROPERTY = "property.";
+
+    private static final String TYPE = "type.";
+
+    private static final String VALIDATOR = "validator.";
+
+    private BuilderDefinitions() {
+    }
+
+    /**
+     * Establece si un archivo es un archivo de definiciones.
+     *
+     * @param file el archivo a verificar.
+     * @return <code>true</code> si el nombre del archivo posee la extension de
+     * los archivos de definiciones.
+     */
+    static boolean isDefinition(Path file) {
+        Path name = file.getFileName();
+        return name != null && name.toString().endsWith(EXTENSION);
+    }
+
+    /**
+     * Devuelve los archivos de definiciones de un archivo o directorio.
+     *
+     * @param path el archivo o el directorio de archivos de definiciones.
+     * @return el mismo archivo o los archivos de definiciones del directorio.
+     * @throws IOException si ocurre un error en la lectura del directorio.
+     */
+    static List<Path> list(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return Collections.singletonList(path);
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, "*" + EXTENSION)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    /**
+     * Interpreta un archivo de definiciones y crea el constructor de
+     * instancias definido.
+     *
+     * @param file el archivo de definiciones.
+     * @param loader el cargador de las clases declaradas en el archivo.
+     * @return el nombre y el constructor de instancias definido.
+     * @throws IOException si ocurre un error en la lectura del archivo, alguna
+     * clase declarada no existe o no puede ser instanciada o alguna propiedad
+     * no es valida.
+     */
+    @SuppressWarnings("unchecked")
+    static Map.Entry<String, BuilderInterface> parse(Path file, ClassLoader loader) throws IOException {
+        Properties definition = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            definition.load(reader);
+        }
+        String fileName = file.getFileName().toString();
+        String name = definition.getProperty("builder.name", fileName.endsWith(EXTENSION)
+                ? fileName.substring(0, fileName.length() - EXTENSION.length()) : fileName);
+        String builderClass = definition.getProperty("builder.class");
+        if (builderClass == null) {
+            throw new IOException("Error, invalid builder definition " + file + ".",
+                    new Throwable("The builder.class entry is required."));
+        }
+        BuilderInterface builder = newInstance(builderClass, BuilderInterface.class, loader);
+        String builderValidator = definition.getProperty("builder.validator");
+        if (builderValidator != null) {
+            builder.setBuilderValidator(newInstance(builderValidator, BuilderValidator.class, loader));
+        }
+        List<BuilderProperty<String, Object>> properties = new ArrayList<>();
+        for (String entry : definition.stringPropertyNames()) {
+            if (!entry.startsWith(PROPERTY)) {
+                continue;
+            }
+            String key = entry.substring(PROPERTY.length());
+            BuilderProperty<String, Object> property = new BuilderProperty<>(key, definition.getProperty(entry));
+            String type = definition.getProperty(TYPE + key);
+            if (type != null) {
+                property.setTargetType(loadClass(type, loader));
+            }
+            String validator = definition.getProperty(VALIDATOR + key);
+            if (validator != null) {
+                property.setPropertyValidator(newInstance(validator, PropertyValidator.class, loader));
+            }
+            properties.add(property);
+        }
+        builder.putProperties(properties);
+        return new AbstractMap.SimpleImmutableEntry<>(name, builder);
+    }
+
+    private static Class<?> loadClass(String className, ClassLoader loader) throws IOException {
+        try {
+            return Class.forName(className.trim(), true, loader);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            throw new IOException("Error, class not found " + className + ".", ex);
+        }
+    }
+
+    private static <T> T newInstance(String className, Class<T> type, ClassLoader loader) throws IOException {
+        Class<?> loaded = loadClass(className, loader);
+        if (!type.isAssignableFrom(loaded)) {
+            throw new IOException("Error, invalid class " + className + ".",
+                    new Throwable("The class must implement " + type.getName()));
+        }
+        try {
+            return type.cast(loaded.getDeclaredConstructor().newInstance());
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+                | InvocationTargetException ex) {
+            throw new IOException("Error, cannot instantiate " + className + ".", ex);
+        }
+    }
+}
@@ -16,10 +16,24 @@
  */
 package io.github.ldelpino.libs.builderlibrary.service;
 
+import io.github.ldelpino.libs.builderlibrary.BuilderInterceptor;
 import io.github.ldelpino.libs.builderlibrary.BuilderInterface;
+import io.github.ldelpino.libs.builderlibrary.BuilderPattern;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyInterner;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Servicio que permite la gestion de los constructores de instancias.
@@ -28,6 +42,32 @@ import java.util.Map;
  * de un sistema, a partir de el mismo es posible obtener los constructores de
  * instancias agregados y con ello crear nuevas instancias de objetos del
  * negocio.</p>
+ * <p>
+ * Los constructores agregados que heredan de {@link BuilderPattern} se
+ * establecen como prototipos inmodificables, para construir nuevas instancias
+ * a partir de ellos de forma concurrente cada hilo debe obtener su propia copia
+ * de trabajo a traves del metodo {@link #acquire(java.lang.String)}.</p>
+ * <p>
+ * El registro de constructores se mantiene como una instantanea inmodificable
+ * que se sustituye de forma atomica en cada modificacion, por lo cual las
+ * consultas nunca se bloquean ni observan una modificacion incompleta. Los
+ * constructores pueden ser cargados desde archivos de definiciones y
+ * recargados automaticamente cuando los archivos cambian, ver
+ * {@link #watchDefinitions(java.nio.file.Path)}.</p>
+ * <p>
+ * Los interceptores agregados para un nombre de constructor se establecen en
+ * el constructor registrado con ese nombre y en los que lo sustituyan, ver
+ * {@link #addInterceptor(java.lang.String, io.github.ldelpino.libs.builderlibrary.BuilderInterceptor)}.
+ * De igual forma se establece la tabla de llaves y valores canonicos de un
+ * nombre de constructor, ver
+ * {@link #enableInterning(java.lang.String, int, int)}.</p>
+ * <p>
+ * La memoria retenida por cada constructor registrado se estima a traves del
+ * servicio {@link MemoryService} la primera vez que es solicitada, o al ser
+ * registrado si el registro posee un limite de memoria, a partir del cual se
+ * rechazan los nuevos registros o se remueven los constructores mas antiguos,
+ * ver
+ * {@link #setMemoryLimit(long, io.github.ldelpino.libs.builderlibrary.service.MemoryLimitPolicy)}.</p>
  *
  * @author ldelpino
  * @version 1.0-SNAPSHOT
@@ -35,12 +75,34 @@ import java.util.Map;
  */
 public class BuilderService {
 
-    private static BuilderService instance;
+    private volatile Map<String, BuilderInterface> builders;
+
+    private final ThreadLocal<WorkingCopies> workingCopies;
+
+    private final Map<String, BuilderInterceptor[]> interceptors;
+
+    private final Map<String, PropertyInterner> interners;
 
-    private final Map<String, BuilderInterface> builders;
+    private final Map<String, RetainedSize> retainedSizes;
+
+    private volatile long memoryLimit;
+
+    private volatile MemoryLimitPolicy memoryLimitPolicy;
+
+    private volatile long evictions;
+
+    private volatile long rejections;
+
+    private final LongAdder estimationFailures;
 
     private BuilderService() {
-        builders = new HashMap<>();
+        builders = Collections.emptyMap();
+        workingCopies = ThreadLocal.withInitial(WorkingCopies::new);
+        interceptors = new HashMap<>();
+        interners = new HashMap<>();
+        retainedSizes = new ConcurrentHashMap<>();
+        estimationFailures = new LongAdder();
+        memoryLimitPolicy = MemoryLimitPolicy.REJECT;
     }
 
     /**
@@ -49,10 +111,7 @@ public class BuilderService {
      * @return la instancia por defecto del servicio de construccion.
      */
     public static BuilderService getDefault() {
-        if (instance == null) {
-            instance = new BuilderService();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
@@ -61,7 +120,7 @@ public class BuilderService {
      * @return el conjunto de todos los constructores de instancias agregados.
      */
     public Map<String, BuilderInterface> getBuilders() {
-        return Collections.unmodifiableMap(builders);
+        return builders;
     }
 
     /**
@@ -72,18 +131,92 @@ public class BuilderService {
      * @return el contructor de instancias o {@code null} sino existe.
      */
     public BuilderInterface getBuilder(String builderName) {
-        return getBuilders().get(builderName);
+        return builderName != null ? builders.get(builderName) : null;
+    }
+
+    /**
+     * Devuelve una copia de trabajo del constructor de instancias dado el
+     * nombre del mismo, confinada al hilo actual.
+     * <p>
+     * La copia de trabajo comparte las propiedades y el validador del
+     * prototipo agregado al servicio y se mantiene almacenada para el hilo
+     * actual, por lo cual cada llamada a este metodo desde el mismo hilo
+     * restablece y devuelve la misma copia de trabajo. La copia de trabajo no
+     * debe ser compartida con otros hilos ni utilizada despues de una nueva
+     * llamada a este metodo con el mismo nombre. Cuando el registro cambia, la
+     * siguiente llamada a este metodo descarta las copias de trabajo del hilo
+     * cuyos prototipos fueron removidos o sustituidos, de forma que dichos
+     * prototipos puedan ser liberados; los hilos que no vuelven a llamar a este
+     * metodo mantienen sus copias hasta su finalizacion.</p>
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @return la copia de trabajo del constructor de instancias o {@code null}
+     * sino existe.
+     * @throws IllegalStateException si el constructor de instancias no hereda
+     * de {@link BuilderPattern} y por tanto no puede ser copiado.
+     */
+    public BuilderInterface acquire(String builderName) {
+        Map<String, BuilderInterface> registry = builders;
+        Map<String, BuilderPattern> copies = workingCopies.get().of(registry);
+        BuilderInterface builder = builderName != null ? registry.get(builderName) : null;
+        if (builder == null) {
+            return null;
+        }
+        if (!(builder instanceof BuilderPattern)) {
+            throw new IllegalStateException("The builder " + builderName + " cannot be copied.");
+        }
+        BuilderPattern copy = copies.get(builderName);
+        if (copy != null && copy.getPrototype() == builder) {
+            copy.reset();
+        } else {
+            copy = ((BuilderPattern) builder).newWorkingCopy();
+            copies.put(builderName, copy);
+        }
+        return copy;
+    }
+
+    /**
+     * Devuelve una copia de trabajo del constructor de instancias dado el
+     * nombre del mismo, cargada con las propiedades de una instancia
+     * existente.
+     * <p>
+     * La copia de trabajo se obtiene a traves del metodo
+     * {@link #acquire(java.lang.String)} y se carga con el metodo
+     * {@link BuilderPattern#loadInstance(java.lang.Object)}, por lo cual los
+     * valores de la instancia solo se leen cuando son solicitados.</p>
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @param instance la instancia de la cual obtener las propiedades.
+     * @return la copia de trabajo cargada o {@code null} si el constructor de
+     * instancias no existe.
+     * @throws IOException si la instancia es nula o alguno de sus metodos de
+     * acceso no es accesible.
+     */
+    public BuilderInterface toBuilder(String builderName, Object instance) throws IOException {
+        BuilderPattern copy = (BuilderPattern) acquire(builderName);
+        if (copy != null) {
+            copy.loadInstance(instance);
+        }
+        return copy;
     }
 
     /**
      * Agrega o sustituye el constructor de instancias que coincide con el
      * nombre.
+     * <p>
+     * Si el constructor hereda de {@link BuilderPattern} se establece como un
+     * prototipo inmodificable.</p>
      *
      * @param builderName el nombre que identifica al constructor de instancias.
      * @param builder el constructor de instancias.
+     * @throws IllegalStateException si el registro supera su limite de memoria
+     * y la politica del limite es {@link MemoryLimitPolicy#REJECT}, o la
+     * memoria retenida de algun constructor no puede ser estimada.
      */
     public void putBuilder(String builderName, BuilderInterface builder) {
-        builders.put(builderName, builder);
+        swapBuilders(Collections.singletonMap(builderName, builder), Collections.emptySet());
     }
 
     /**
@@ -94,7 +227,535 @@ public class BuilderService {
      * instancias.
      * @return el constructor de instancias removido o {@code null} sino existe.
      */
-    public BuilderInterface removeBuilder(String builderName) {
-        return builders.remove(builderName);
+    public synchronized BuilderInterface removeBuilder(String builderName) {
+        BuilderInterface builder = getBuilder(builderName);
+        if (builder != null) {
+            swapBuilders(Collections.emptyMap(), Collections.singleton(builderName));
+        }
+        return builder;
+    }
+
+    /**
+     * Carga los constructores de instancias definidos en un archivo de
+     * definiciones o en todos los archivos de definiciones de un directorio y
+     * los agrega al registro en una unica sustitucion atomica.
+     *
+     * @param path el archivo o el directorio de archivos de definiciones.
+     * @return los nombres de los constructores cargados.
+     * @throws IOException si ocurre un error en la lectura o interpretacion de
+     * alguno de los archivos, en cuyo caso ningun constructor es agregado.
+     * @throws IllegalStateException si el registro supera su limite de memoria
+     * y la politica del limite es {@link MemoryLimitPolicy#REJECT}, o la
+     * memoria retenida de algun constructor no puede ser estimada.
+     * @see BuilderDefinitions
+     */
+    public Collection<String> loadDefinitions(Path path) throws IOException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        Map<String, BuilderInterface> loaded = new HashMap<>();
+        for (Path file : BuilderDefinitions.list(path)) {
+            Map.Entry<String, BuilderInterface> definition = BuilderDefinitions.parse(file, loader);
+            loaded.put(definition.getKey(), definition.getValue());
+        }
+        swapBuilders(loaded, Collections.emptySet());
+        return Collections.unmodifiableSet(loaded.keySet());
+    }
+
+    /**
+     * Carga los constructores de instancias definidos en un archivo o
+     * directorio de definiciones y los recarga cada vez que los archivos
+     * cambian.
+     * <p>
+     * Los archivos modificados se interpretan en un hilo independiente y los
+     * constructores resultantes se agregan al registro en una unica
+     * sustitucion atomica, las consultas en curso continuan utilizando la
+     * instantanea anterior del registro. Los constructores de los archivos
+     * eliminados son removidos del registro.</p>
+     *
+     * @param path el archivo o el directorio de archivos de definiciones.
+     * @return el observador de los archivos, el cual debe ser cerrado para
+     * detener las recargas.
+     * @throws IOException si ocurre un error en la carga inicial de las
+     * definiciones o al observar los archivos.
+     */
+    public BuilderDefinitionWatcher watchDefinitions(Path path) throws IOException {
+        return new BuilderDefinitionWatcher(this, path, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Agrega un interceptor al final de la cadena de interceptores de un
+     * nombre de constructor.
+     * <p>
+     * La cadena se establece en el constructor registrado con el nombre, si
+     * hereda de {@link BuilderPattern}, y en los constructores registrados
+     * posteriormente con el mismo nombre. Las copias de trabajo obtienen la
+     * nueva cadena la proxima vez que son solicitadas a traves del metodo
+     * {@link #acquire(java.lang.String)}.</p>
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @param interceptor el interceptor a agregar.
+     * @throws NullPointerException si el nombre o el interceptor son nulos.
+     */
+    public synchronized void addInterceptor(String builderName, BuilderInterceptor interceptor) {
+        Objects.requireNonNull(builderName, "The builder name cannot be null.");
+        Objects.requireNonNull(interceptor, "The interceptor cannot be null.");
+        BuilderInterceptor[] chain = interceptors.get(builderName);
+        if (chain == null) {
+            chain = new BuilderInterceptor[]{interceptor};
+        } else {
+            chain = Arrays.copyOf(chain, chain.length + 1);
+            chain[chain.length - 1] = interceptor;
+        }
+        interceptors.put(builderName, chain);
+        applyInterceptors(builderName, builders.get(builderName));
+    }
+
+    /**
+     * Remueve un interceptor de la cadena de interceptores de un nombre de
+     * constructor.
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @param interceptor el interceptor a remover.
+     * @return <code>true</code> si el interceptor fue removido, de lo contrario
+     * devuelve <code>false</code>.
+     */
+    public synchronized boolean removeInterceptor(String builderName, BuilderInterceptor interceptor) {
+        BuilderInterceptor[] chain = builderName != null ? interceptors.get(builderName) : null;
+        if (chain == null) {
+            return false;
+        }
+        int index = Arrays.asList(chain).indexOf(interceptor);
+        if (index < 0) {
+            return false;
+        }
+        if (chain.length == 1) {
+            interceptors.remove(builderName);
+        } else {
+            BuilderInterceptor[] compiled = new BuilderInterceptor[chain.length - 1];
+            System.arraycopy(chain, 0, compiled, 0, index);
+            System.arraycopy(chain, index + 1, compiled, index, compiled.length - index);
+            interceptors.put(builderName, compiled);
+        }
+        applyInterceptors(builderName, builders.get(builderName));
+        return true;
+    }
+
+    /**
+     * Devuelve los interceptores de un nombre de constructor.
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @return una lista inmodificable con los interceptores en su orden de
+     * ejecucion.
+     */
+    public synchronized List<BuilderInterceptor> getInterceptors(String builderName) {
+        BuilderInterceptor[] chain = builderName != null ? interceptors.get(builderName) : null;
+        return chain != null ? Collections.unmodifiableList(Arrays.asList(chain)) : Collections.emptyList();
+    }
+
+    /**
+     * Habilita la sustitucion de las llaves y los valores de las propiedades
+     * por sus instancias canonicas en los constructores de un nombre.
+     * <p>
+     * La tabla de instancias canonicas del nombre se crea una unica vez y se
+     * establece en el constructor registrado con el nombre, si hereda de
+     * {@link BuilderPattern}, y en los constructores registrados
+     * posteriormente con el mismo nombre, por lo cual todas las copias de
+     * trabajo de dichos constructores comparten las mismas llaves. Las
+     * propiedades con pocos valores diferentes se declaran a traves del metodo
+     * {@link PropertyInterner#declareLowCardinality(java.lang.String...)} de
+     * la tabla devuelta.</p>
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @param maximumKeys la cantidad maxima de llaves canonicas.
+     * @param maximumValues la cantidad maxima de valores canonicos.
+     * @return la tabla de instancias canonicas del nombre, la existente si la
+     * sustitucion ya estaba habilitada.
+     * @throws NullPointerException si el nombre es nulo.
+     * @throws IllegalArgumentException si alguna de las cantidades maximas no
+     * es positiva.
+     */
+    public synchronized PropertyInterner enableInterning(String builderName, int maximumKeys, int maximumValues) {
+        Objects.requireNonNull(builderName, "The builder name cannot be null.");
+        PropertyInterner interner = interners.get(builderName);
+        if (interner == null) {
+            interner = new PropertyInterner(maximumKeys, maximumValues);
+            interners.put(builderName, interner);
+            applyInterner(builderName, builders.get(builderName));
+        }
+        return interner;
+    }
+
+    /**
+     * Deshabilita la sustitucion de las llaves y los valores de las
+     * propiedades por sus instancias canonicas en los constructores de un
+     * nombre.
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @return la tabla de instancias canonicas removida o {@code null} si la
+     * sustitucion no estaba habilitada.
+     */
+    public synchronized PropertyInterner disableInterning(String builderName) {
+        PropertyInterner interner = builderName != null ? interners.remove(builderName) : null;
+        if (interner != null) {
+            applyInterner(builderName, builders.get(builderName));
+        }
+        return interner;
+    }
+
+    /**
+     * Devuelve la tabla de instancias canonicas de un nombre de constructor.
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @return la tabla de instancias canonicas o {@code null} si la
+     * sustitucion no esta habilitada.
+     */
+    public synchronized PropertyInterner getPropertyInterner(String builderName) {
+        return builderName != null ? interners.get(builderName) : null;
+    }
+
+    /**
+     * Establece la tabla de instancias canonicas de un nombre en el
+     * constructor registrado con dicho nombre.
+     *
+     * @param builderName el nombre identificativo del constructor.
+     * @param builder el constructor registrado o {@code null} sino existe.
+     */
+    private void applyInterner(String builderName, BuilderInterface builder) {
+        if (builder instanceof BuilderPattern) {
+            ((BuilderPattern) builder).setPropertyInterner(interners.get(builderName));
+        }
+    }
+
+    /**
+     * Establece la cadena de interceptores de un nombre en el constructor
+     * registrado con dicho nombre.
+     *
+     * @param builderName el nombre identificativo del constructor.
+     * @param builder el constructor registrado o {@code null} sino existe.
+     */
+    private void applyInterceptors(String builderName, BuilderInterface builder) {
+        if (builder instanceof BuilderPattern) {
+            ((BuilderPattern) builder).setInterceptors(interceptors.get(builderName));
+        }
+    }
+
+    /**
+     * Establece el limite de memoria del registro de constructores.
+     * <p>
+     * El limite se verifica cada vez que se agregan constructores al registro,
+     * a partir de la memoria retenida estimada de todos los constructores
+     * registrados y de la estructura del registro. Cuando el limite es superado
+     * se aplica la politica establecida, si los constructores agregados por si
+     * solos superan el limite el registro es rechazado con cualquiera de las
+     * politicas, al igual que si la memoria retenida de algun constructor no
+     * puede ser estimada. El limite es flexible: los constructores ya
+     * registrados no se remueven al establecer un nuevo limite, sino en el
+     * proximo registro. La memoria retenida por las copias de trabajo de los
+     * hilos no forma parte del registro.</p>
+     *
+     * @param limit la cantidad maxima de bytes del registro, si es menor o igual
+     * que cero el registro no posee limite.
+     * @param policy la politica a aplicar cuando el limite es superado.
+     * @throws NullPointerException si la politica es nula.
+     */
+    public synchronized void setMemoryLimit(long limit, MemoryLimitPolicy policy) {
+        memoryLimitPolicy = Objects.requireNonNull(policy, "The policy cannot be null.");
+        memoryLimit = Math.max(limit, 0L);
+    }
+
+    /**
+     * Devuelve el limite de memoria del registro de constructores.
+     *
+     * @return la cantidad maxima de bytes del registro o cero si no posee
+     * limite.
+     */
+    public long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    /**
+     * Devuelve la politica a aplicar cuando el registro supera su limite de
+     * memoria.
+     *
+     * @return la politica del limite de memoria.
+     */
+    public MemoryLimitPolicy getMemoryLimitPolicy() {
+        return memoryLimitPolicy;
+    }
+
+    /**
+     * Devuelve la memoria retenida estimada del constructor registrado con un
+     * nombre, calculada la primera vez que es solicitada o en el momento de su
+     * registro si el registro posee un limite de memoria.
+     *
+     * @param builderName el nombre identificativo del constructor de
+     * instancias.
+     * @return la cantidad estimada de bytes retenidos o cero si el constructor
+     * no existe.
+     * @see MemoryService#estimate(io.github.ldelpino.libs.builderlibrary.BuilderInterface)
+     */
+    public long getRetainedSize(String builderName) {
+        BuilderInterface builder = getBuilder(builderName);
+        return builder != null ? retainedSizeOf(builderName, builder) : 0L;
+    }
+
+    /**
+     * Devuelve la memoria retenida estimada de todo el registro, incluidos los
+     * constructores registrados, sus nombres y la estructura del registro.
+     *
+     * @return la cantidad estimada de bytes retenidos por el registro.
+     */
+    public long getRetainedSize() {
+        return retainedSizeOf(builders);
+    }
+
+    /**
+     * Devuelve un reporte de la memoria retenida por el registro, apto para
+     * ser exportado hacia sistemas de monitoreo.
+     * <p>
+     * El reporte contiene una entrada {@code builder.<nombre>} con la memoria
+     * retenida de cada constructor registrado y las entradas
+     * {@code registry.size}, {@code registry.count}, {@code registry.limit},
+     * {@code registry.evictions}, {@code registry.rejections} y
+     * {@code registry.estimationFailures}, la cantidad de veces que la memoria
+     * retenida de un constructor no pudo ser estimada.</p>
+     *
+     * @return un mapa inmodificable y ordenado por llave con los valores del
+     * reporte.
+     */
+    public Map<String, Long> getMemoryReport() {
+        Map<String, BuilderInterface> registry = builders;
+        Map<String, Long> report = new TreeMap<>();
+        for (Map.Entry<String, BuilderInterface> entry : registry.entrySet()) {
+            report.put("builder." + entry.getKey(), retainedSizeOf(entry.getKey(), entry.getValue()));
+        }
+        report.put("registry.size", retainedSizeOf(registry));
+        report.put("registry.count", (long) registry.size());
+        report.put("registry.limit", memoryLimit);
+        report.put("registry.evictions", evictions);
+        report.put("registry.rejections", rejections);
+        report.put("registry.estimationFailures", estimationFailures.sum());
+        return Collections.unmodifiableMap(report);
+    }
+
+    /**
+     * Estima la memoria retenida por un registro, incluidos sus constructores,
+     * sus nombres y su estructura.
+     *
+     * @param registry el registro de constructores.
+     * @return la cantidad estimada de bytes retenidos por el registro.
+     */
+    private long retainedSizeOf(Map<String, BuilderInterface> registry) {
+        MemoryService memory = MemoryService.getDefault();
+        long size = memory.estimateMap(registry.size());
+        for (Map.Entry<String, BuilderInterface> entry : registry.entrySet()) {
+            size += memory.estimateValue(entry.getKey()) + retainedSizeOf(entry.getKey(), entry.getValue());
+        }
+        return size;
+    }
+
+    /**
+     * Devuelve la memoria retenida estimada de un constructor del registro,
+     * la cual se estima una unica vez por constructor. Si la estimacion falla,
+     * ej: un valor de una propiedad es modificado durante el recorrido, el
+     * error se contabiliza en el reporte de memoria, se devuelve cero y la
+     * estimacion se repite en la proxima solicitud.
+     *
+     * @param name el nombre del constructor.
+     * @param builder el constructor.
+     * @return la cantidad estimada de bytes retenidos por el constructor.
+     */
+    private long retainedSizeOf(String name, BuilderInterface builder) {
+        try {
+            return retainedSizeOf(name, builder, builders);
+        } catch (RuntimeException ex) {
+            estimationFailures.increment();
+            return 0L;
+        }
+    }
+
+    /**
+     * Devuelve la memoria retenida estimada de un constructor, la estimacion
+     * solo se mantiene almacenada mientras el constructor pertenezca al
+     * registro especificado.
+     *
+     * @param name el nombre del constructor.
+     * @param builder el constructor.
+     * @param registry el registro al que pertenece el constructor.
+     * @return la cantidad estimada de bytes retenidos por el constructor.
+     * @throws RuntimeException si ocurre un error al recorrer el constructor.
+     */
+    private long retainedSizeOf(String name, BuilderInterface builder, Map<String, BuilderInterface> registry) {
+        RetainedSize cached = retainedSizes.get(name);
+        if (cached != null && cached.builder == builder) {
+            return cached.size;
+        }
+        long size = MemoryService.getDefault().estimate(builder);
+        RetainedSize estimated = new RetainedSize(builder, size);
+        retainedSizes.put(name, estimated);
+        if (registry.get(name) != builder) {
+            retainedSizes.remove(name, estimated);
+        }
+        return size;
+    }
+
+    /**
+     * Agrega y remueve constructores de instancias del registro en una unica
+     * sustitucion atomica de la instantanea del registro.
+     *
+     * Los constructores se mantienen en el orden de su registro, el cual
+     * determina los constructores a remover cuando el registro supera su
+     * limite de memoria.
+     *
+     * @param added los constructores a agregar o sustituir.
+     * @param removed los nombres de los constructores a remover.
+     * @throws IllegalStateException si el registro supera su limite de memoria
+     * y la politica del limite es {@link MemoryLimitPolicy#REJECT}, los
+     * constructores agregados por si solos superan el limite o la memoria
+     * retenida de algun constructor no puede ser estimada.
+     */
+    synchronized void swapBuilders(Map<String, BuilderInterface> added, Collection<String> removed) {
+        Map<String, BuilderInterface> snapshot = new LinkedHashMap<>(builders);
+        snapshot.keySet().removeAll(removed);
+        snapshot.keySet().removeAll(added.keySet());
+        snapshot.putAll(added);
+        if (memoryLimit > 0 && !added.isEmpty()) {
+            enforceMemoryLimit(snapshot, added);
+        }
+        for (Map.Entry<String, BuilderInterface> entry : added.entrySet()) {
+            if (entry.getValue() instanceof BuilderPattern) {
+                ((BuilderPattern) entry.getValue()).freeze();
+                if (interceptors.containsKey(entry.getKey())) {
+                    applyInterceptors(entry.getKey(), entry.getValue());
+                }
+                if (interners.containsKey(entry.getKey())) {
+                    applyInterner(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        builders = Collections.unmodifiableMap(snapshot);
+        dropStaleSizes();
+    }
+
+    /**
+     * Descarta las estimaciones de memoria de los constructores que ya no
+     * pertenecen al registro.
+     */
+    private void dropStaleSizes() {
+        Map<String, BuilderInterface> registry = builders;
+        retainedSizes.entrySet().removeIf(entry -> registry.get(entry.getKey()) != entry.getValue().builder);
+    }
+
+    /**
+     * Aplica la politica del limite de memoria a la nueva instantanea del
+     * registro, removiendo de la misma los constructores mas antiguos si la
+     * politica es {@link MemoryLimitPolicy#EVICT}.
+     *
+     * @param snapshot la nueva instantanea del registro.
+     * @param added los constructores agregados, los cuales nunca se remueven.
+     * @throws IllegalStateException si el registro supera el limite y la
+     * politica es {@link MemoryLimitPolicy#REJECT}, los constructores
+     * agregados por si solos superan el limite o la memoria retenida de algun
+     * constructor no puede ser estimada.
+     */
+    private void enforceMemoryLimit(Map<String, BuilderInterface> snapshot, Map<String, BuilderInterface> added) {
+        MemoryService memory = MemoryService.getDefault();
+        Map<String, Long> sizes = new HashMap<>(capacityFor(snapshot.size()));
+        long size = memory.estimateMap(snapshot.size());
+        for (Map.Entry<String, BuilderInterface> entry : snapshot.entrySet()) {
+            long retained;
+            try {
+                retained = retainedSizeOf(entry.getKey(), entry.getValue(), snapshot);
+            } catch (RuntimeException ex) {
+                dropStaleSizes();
+                estimationFailures.increment();
+                rejections++;
+                throw new IllegalStateException("The retained size of the builder "
+                        + entry.getKey() + " cannot be estimated.", ex);
+            }
+            long builderSize = memory.estimateValue(entry.getKey()) + retained;
+            sizes.put(entry.getKey(), builderSize);
+            size += builderSize;
+        }
+        if (size <= memoryLimit) {
+            return;
+        }
+        List<String> evicted = new ArrayList<>();
+        if (memoryLimitPolicy == MemoryLimitPolicy.EVICT) {
+            for (String name : snapshot.keySet()) {
+                if (size <= memoryLimit) {
+                    break;
+                }
+                if (!added.containsKey(name)) {
+                    evicted.add(name);
+                    size -= sizes.get(name);
+                }
+            }
+        }
+        if (size > memoryLimit) {
+            dropStaleSizes();
+            rejections++;
+            throw new IllegalStateException("The builder registry exceeds its memory limit of "
+                    + memoryLimit + " bytes.");
+        }
+        snapshot.keySet().removeAll(evicted);
+        evictions += evicted.size();
+    }
+
+    private static int capacityFor(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+    }
+
+    /**
+     * Copias de trabajo de un hilo y la instantanea del registro a partir de
+     * la cual fueron verificadas.
+     */
+    private static final class WorkingCopies {
+
+        private final Map<String, BuilderPattern> copies = new HashMap<>();
+
+        private Map<String, BuilderInterface> registry;
+
+        /**
+         * Devuelve las copias de trabajo, descartando las copias cuyos
+         * prototipos ya no estan registrados si el registro cambio desde la
+         * ultima verificacion.
+         */
+        private Map<String, BuilderPattern> of(Map<String, BuilderInterface> current) {
+            if (registry != current) {
+                copies.entrySet().removeIf(entry -> current.get(entry.getKey()) != entry.getValue().getPrototype());
+                registry = current;
+            }
+            return copies;
+        }
+    }
+
+    /**
+     * Memoria retenida estimada de un constructor del registro.
+     */
+    private static final class RetainedSize {
+
+        private final BuilderInterface builder;
+
+        private final long size;
+
+        private RetainedSize(BuilderInterface builder, long size) {
+            this.builder = builder;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Contenedor de la unica instancia del servicio, inicializada de forma
+     * segura entre hilos la primera vez que es solicitada.
+     */
+    private static final class Holder {
+
+        private static final BuilderService INSTANCE = new BuilderService();
     }
 }
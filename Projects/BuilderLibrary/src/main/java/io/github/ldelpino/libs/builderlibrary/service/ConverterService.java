@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.service;
+
+import io.github.ldelpino.libs.builderlibrary.property.InvalidPropertyException;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyConverter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servicio de gestion de los convertidores de valores de propiedades.
+ * <p>
+ * El servicio se encarga del almacenamiento de los convertidores de los valores
+ * de las propiedades del sistema. El convertidor correspondiente a cada par de
+ * tipos de datos (tipo de origen, tipo de destino) se resuelve una unica vez y
+ * se mantiene almacenado, de forma que las conversiones posteriores no
+ * requieren buscar nuevamente el convertidor. Los convertidores resueltos se
+ * almacenan en objetos {@link ClassValue}, por lo cual no impiden la descarga
+ * de las clases, y se descartan al agregar o sustituir un convertidor.</p>
+ * <p>
+ * El servicio incluye los convertidores desde {@code String} hacia los tipos
+ * numericos basicos, {@code Boolean}, {@code BigInteger}, {@code BigDecimal},
+ * {@code Duration}, {@code Instant} y cualquier enumeracion.</p>
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class ConverterService {
+
+    /**
+     * Convertidor que señala en la cache que no existe convertidor para un par
+     * de tipos de datos.
+     */
+    private static final PropertyConverter<Object, Object> NONE = value -> value;
+
+    /**
+     * Convertidor para los valores que ya son del tipo de dato de destino.
+     */
+    private static final PropertyConverter<Object, Object> IDENTITY = value -> value;
+
+    private final Map<Class<?>, Map<Class<?>, PropertyConverter<Object, Object>>> converters;
+
+    /**
+     * La version de los convertidores agregados, se incrementa con cada
+     * convertidor agregado o sustituido para descartar los convertidores
+     * resueltos con anterioridad.
+     */
+    private final AtomicInteger version;
+
+    private final ClassValue<Resolved> resolved;
+
+    private ConverterService() {
+        converters = new ConcurrentHashMap<>();
+        version = new AtomicInteger();
+        resolved = new ClassValue<Resolved>() {
+            @Override
+            protected Resolved computeValue(Class<?> source) {
+                return new Resolved(source, version.get());
+            }
+        };
+        putConverter(String.class, Integer.class, value -> Integer.valueOf(value.trim()));
+        putConverter(String.class, Long.class, value -> Long.valueOf(value.trim()));
+        putConverter(String.class, Short.class, value -> Short.valueOf(value.trim()));
+        putConverter(String.class, Byte.class, value -> Byte.valueOf(value.trim()));
+        putConverter(String.class, Double.class, value -> Double.valueOf(value.trim()));
+        putConverter(String.class, Float.class, value -> Float.valueOf(value.trim()));
+        putConverter(String.class, Boolean.class, ConverterService::parseBoolean);
+        putConverter(String.class, BigInteger.class, value -> new BigInteger(value.trim()));
+        putConverter(String.class, BigDecimal.class, value -> new BigDecimal(value.trim()));
+        putConverter(String.class, Duration.class, value -> Duration.parse(value.trim()));
+        putConverter(String.class, Instant.class, value -> Instant.parse(value.trim()));
+    }
+
+    /**
+     * Devuelve la unica instancia del servicio de convertidores.
+     *
+     * @return la instancia por defecto del servicio de convertidores.
+     */
+    public static ConverterService getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Agrega o sustituye el convertidor de valores entre dos tipos de datos.
+     *
+     * @param <S> el tipo de dato del valor a convertir.
+     * @param <T> el tipo de dato del valor convertido.
+     * @param source el tipo de dato del valor a convertir.
+     * @param target el tipo de dato del valor convertido.
+     * @param converter el convertidor de valores.
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> void putConverter(Class<S> source, Class<T> target,
+            PropertyConverter<? super S, ? extends T> converter) {
+        converters.computeIfAbsent(source, k -> new ConcurrentHashMap<>())
+                .put(wrap(target), (PropertyConverter<Object, Object>) converter);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Devuelve el convertidor de valores entre dos tipos de datos.
+     * <p>
+     * El convertidor se busca entre los convertidores agregados para el tipo
+     * de origen y sus superclases, las interfaces implementadas por el tipo de
+     * origen no se consideran. Si el tipo de destino es una enumeracion y el
+     * tipo de origen es {@code String} se utiliza el nombre de la constante.
+     * El resultado de la busqueda se mantiene almacenado para el par de tipos
+     * de datos hasta que se agregue o sustituya un convertidor.</p>
+     *
+     * @param source el tipo de dato del valor a convertir.
+     * @param target el tipo de dato del valor convertido.
+     * @return el convertidor de valores o {@code null} si no existe.
+     */
+    public PropertyConverter<Object, Object> getConverter(Class<?> source, Class<?> target) {
+        Resolved cache = resolved.get(source);
+        if (cache.version != version.get()) {
+            resolved.remove(source);
+            cache = resolved.get(source);
+        }
+        PropertyConverter<Object, Object> converter = cache.get(wrap(target));
+        return converter != NONE ? converter : null;
+    }
+
+    /**
+     * Convierte un valor hacia el tipo de dato especificado.
+     *
+     * @param value el valor a convertir.
+     * @param target el tipo de dato del valor convertido.
+     * @return el valor convertido, el mismo valor si ya es del tipo de dato
+     * especificado o {@code null} si el valor es nulo.
+     * @throws InvalidPropertyException si no existe un convertidor para el
+     * valor o el valor no puede ser convertido.
+     */
+    public Object convert(Object value, Class<?> target) throws InvalidPropertyException {
+        if (value == null || wrap(target).isInstance(value)) {
+            return value;
+        }
+        PropertyConverter<Object, Object> converter = getConverter(value.getClass(), target);
+        if (converter == null) {
+            throw new InvalidPropertyException("Error, unsupported conversion.",
+                    new Throwable("No converter from " + value.getClass().getName()
+                            + " to " + target.getName()));
+        }
+        try {
+            return converter.convert(value);
+        } catch (RuntimeException ex) {
+            throw new InvalidPropertyException("Error, invalid value for type "
+                    + target.getName() + ".", ex);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private PropertyConverter<Object, Object> resolve(Class<?> source, Class<?> target) {
+        if (target.isAssignableFrom(source)) {
+            return IDENTITY;
+        }
+        for (Class<?> type = source; type != null; type = type.getSuperclass()) {
+            Map<Class<?>, PropertyConverter<Object, Object>> byTarget = converters.get(type);
+            PropertyConverter<Object, Object> converter = byTarget != null ? byTarget.get(target) : null;
+            if (converter != null) {
+                return converter;
+            }
+        }
+        if (target.isEnum() && source == String.class) {
+            Class<? extends Enum> type = (Class<? extends Enum>) target;
+            return value -> Enum.valueOf(type, ((String) value).trim());
+        }
+        return NONE;
+    }
+
+    /**
+     * Convierte una cadena en un valor logico, solo se aceptan los valores
+     * {@code true} y {@code false} sin distinguir mayusculas y minusculas.
+     *
+     * @param value la cadena a convertir.
+     * @return el valor logico de la cadena.
+     * @throws IllegalArgumentException si la cadena no es un valor logico.
+     */
+    private static Boolean parseBoolean(String value) {
+        String text = value.trim();
+        if ("true".equalsIgnoreCase(text)) {
+            return Boolean.TRUE;
+        } else if ("false".equalsIgnoreCase(text)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("For input string: \"" + value + "\"");
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+
+    /**
+     * Convertidores resueltos desde un tipo de origen hacia cada tipo de
+     * destino, a partir de la version de los convertidores agregados vigente
+     * al crear el objeto. Si un convertidor es agregado durante la resolucion,
+     * la version del objeto deja de coincidir y el objeto es descartado en la
+     * proxima busqueda.
+     */
+    private final class Resolved extends ClassValue<PropertyConverter<Object, Object>> {
+
+        private final Class<?> source;
+
+        private final int version;
+
+        private Resolved(Class<?> source, int version) {
+            this.source = source;
+            this.version = version;
+        }
+
+        @Override
+        protected PropertyConverter<Object, Object> computeValue(Class<?> target) {
+            return resolve(source, target);
+        }
+    }
+
+    /**
+     * Contenedor de la unica instancia del servicio, inicializada de forma
+     * segura entre hilos la primera vez que es solicitada.
+     */
+    private static final class Holder {
+
+        private static final ConverterService INSTANCE = new ConverterService();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.service;
+
+/**
+ * Politicas a aplicar cuando el registro de constructores de instancias supera
+ * su limite de memoria.
+ *
+ * @author ldelpino
+ * @see BuilderService#setMemoryLimit(long,
+ * io.github.ldelpino.libs.builderlibrary.service.MemoryLimitPolicy)
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public enum MemoryLimitPolicy {
+
+    /**
+     * Rechaza el registro de los nuevos constructores, el registro se mantiene
+     * sin modificaciones.
+     */
+    REJECT,
+    /**
+     * Remueve del registro los constructores registrados con mayor antiguedad
+     * hasta que el registro no supere el limite, los nuevos constructores
+     * nunca son removidos. Si los nuevos constructores por si solos superan el
+     * limite su registro es rechazado como en {@link #REJECT}.
+     */
+    EVICT
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.service;
+
+import io.github.ldelpino.libs.builderlibrary.BuilderInterface;
+import io.github.ldelpino.libs.builderlibrary.BuilderPattern;
+import io.github.ldelpino.libs.builderlibrary.BuilderValidator;
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.LazyBuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyValidator;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Servicio que estima la memoria retenida por los constructores de instancias.
+ * <p>
+ * La memoria retenida de un constructor es la memoria que seria liberada si el
+ * constructor dejara de ser referenciado: el propio constructor, su mapa de
+ * propiedades y las propiedades con sus llaves y valores. Las propiedades
+ * compartidas por una copia de trabajo con su prototipo, asi como el mapa de
+ * propiedades mientras la copia de trabajo no haya sido modificada, no forman
+ * parte de la memoria retenida de la copia de trabajo, sino de la del
+ * prototipo.</p>
+ * <p>
+ * Las estimaciones se calculan a partir de la disposicion de los campos de
+ * cada clase, suponiendo una maquina virtual de 64 bits con referencias
+ * comprimidas, sin necesidad de un agente de instrumentacion. Los valores de
+ * tipo {@code String}, arreglos, colecciones, mapas y constructores anidados se
+ * recorren, el resto de los objetos solo aportan su tamaño propio, los
+ * validadores, las clases y las enumeraciones se consideran compartidos y los
+ * valores de las propiedades diferidas aun no calculados no se calculan, por
+ * lo cual los resultados son una cota inferior aproximada.</p>
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class MemoryService {
+
+    private static final int OBJECT_HEADER = 12;
+
+    private static final int ARRAY_HEADER = 16;
+
+    private static final int REFERENCE = 4;
+
+    /**
+     * El tamaño estimado de un nodo de un mapa de dispersion.
+     */
+    private static final int MAP_ENTRY = 32;
+
+    /**
+     * Establece si las cadenas con caracteres latinos ocupan un byte por
+     * caracter, lo cual solo se asume si la compactacion de cadenas de la
+     * maquina virtual no fue desactivada de forma explicita.
+     */
+    private static final boolean COMPACT_STRINGS = compactStrings();
+
+    /**
+     * El tamaño propio de las instancias de cada clase.
+     */
+    private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            long size = OBJECT_HEADER;
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        size += sizeOf(field.getType());
+                    }
+                }
+            }
+            return align(size);
+        }
+    };
+
+    private MemoryService() {
+    }
+
+    private static boolean compactStrings() {
+        try {
+            return !ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-XX:-CompactStrings");
+        } catch (RuntimeException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Devuelve la cantidad de bytes de los caracteres de una cadena, un byte
+     * por caracter si la cadena puede ser compactada y dos bytes por caracter
+     * en otro caso.
+     *
+     * @param value la cadena.
+     * @return la cantidad de bytes de los caracteres de la cadena.
+     */
+    private static long bytesOf(String value) {
+        int length = value.length();
+        if (!COMPACT_STRINGS) {
+            return 2L * length;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) {
+                return 2L * length;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Devuelve la unica instancia del servicio de estimacion de memoria.
+     *
+     * @return la instancia por defecto del servicio de estimacion de memoria.
+     */
+    public static MemoryService getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Estima la memoria retenida por un constructor de instancias.
+     *
+     * @param builder el constructor de instancias.
+     * @return la cantidad estimada de bytes retenidos o cero si el constructor
+     * es nulo.
+     */
+    public long estimate(BuilderInterface<?> builder) {
+        return builder != null ? new Estimation().add(builder).size : 0L;
+    }
+
+    /**
+     * Estima la memoria retenida por un objeto cualquiera, recorriendo los
+     * objetos que lo componen si es un {@code String}, un arreglo, una
+     * coleccion, un mapa o un constructor de instancias.
+     *
+     * @param value el objeto a estimar.
+     * @return la cantidad estimada de bytes retenidos o cero si el objeto es
+     * nulo o compartido.
+     */
+    public long estimateValue(Object value) {
+        return new Estimation().add(value).size;
+    }
+
+    /**
+     * Estima la memoria de la estructura de un mapa de dispersion, sin incluir
+     * sus llaves y valores.
+     *
+     * @param size la cantidad de elementos del mapa.
+     * @return la cantidad estimada de bytes de la estructura del mapa.
+     */
+    long estimateMap(int size) {
+        int capacity = 1;
+        while (capacity * 3 < size * 4) {
+            capacity <<= 1;
+        }
+        return 48L + (size > 0 ? align(ARRAY_HEADER + (long) capacity * REFERENCE) : 0L)
+                + (long) size * MAP_ENTRY;
+    }
+
+    private static long sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * Recorrido de un grafo de objetos que acumula su tamaño estimado,
+     * contando una unica vez los objetos compartidos.
+     */
+    private final class Estimation {
+
+        private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+
+        private final Deque<Object> pending = new ArrayDeque<>();
+
+        private long size;
+
+        private Estimation add(Object root) {
+            push(root);
+            while (!pending.isEmpty()) {
+                visit(pending.pop());
+            }
+            return this;
+        }
+
+        private void push(Object value) {
+            if (value != null && !isShared(value) && visited.put(value, Boolean.TRUE) == null) {
+                pending.push(value);
+            }
+        }
+
+        private boolean isShared(Object value) {
+            return value instanceof Class || value instanceof Enum
+                    || value instanceof PropertyValidator
+                    || value instanceof BuilderValidator;
+        }
+
+        private void visit(Object value) {
+            Class<?> type = value.getClass();
+            if (value instanceof String) {
+                size += SHALLOW_SIZES.get(type) + align(ARRAY_HEADER + bytesOf((String) value));
+            } else if (type.isArray()) {
+                int length = Array.getLength(value);
+                Class<?> component = type.getComponentType();
+                size += align(ARRAY_HEADER + length * sizeOf(component));
+                if (!component.isPrimitive()) {
+                    for (Object element : (Object[]) value) {
+                        push(element);
+                    }
+                }
+            } else if (value instanceof BuilderInterface) {
+                visitBuilder((BuilderInterface<?>) value);
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                size += estimateMap(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    push(entry.getKey());
+                    push(entry.getValue());
+                }
+            } else if (value instanceof Collection) {
+                Collection<?> collection = (Collection<?>) value;
+                size += SHALLOW_SIZES.get(type) + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+                for (Object element : collection) {
+                    push(element);
+                }
+            } else {
+                size += SHALLOW_SIZES.get(type);
+            }
+        }
+
+        private void visitBuilder(BuilderInterface<?> builder) {
+            Map<String, BuilderProperty<String, Object>> properties = builder.getProperties();
+            Map<String, BuilderProperty<String, Object>> shared = null;
+            size += SHALLOW_SIZES.get(builder.getClass());
+            if (builder instanceof BuilderPattern && ((BuilderPattern<?>) builder).getPrototype() != null) {
+                if (((BuilderPattern<?>) builder).isSharingProperties()) {
+                    return;
+                }
+                shared = ((BuilderPattern<?>) builder).getPrototype().getProperties();
+            }
+            size += estimateMap(properties.size());
+            for (BuilderProperty<String, Object> property : properties.values()) {
+                if (shared != null && shared.get(property.getKey()) == property) {
+                    continue;
+                }
+                if (visited.put(property, Boolean.TRUE) != null) {
+                    continue;
+                }
+                size += SHALLOW_SIZES.get(property.getClass());
+                push(property.getKey());
+                if (!(property instanceof LazyBuilderProperty)
+                        || ((LazyBuilderProperty<?, ?>) property).isMaterialized()) {
+                    push(property.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Contenedor de la unica instancia del servicio, inicializada de forma
+     * segura entre hilos la primera vez que es solicitada.
+     */
+    private static final class Holder {
+
+        private static final MemoryService INSTANCE = new MemoryService();
+    }
+}
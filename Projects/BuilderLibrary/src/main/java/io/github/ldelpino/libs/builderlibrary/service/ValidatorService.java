@@ -22,17 +22,12 @@ import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
  */
 public class ValidatorService {
 
-    private static ValidatorService instance;
-
     private ValidatorService() {
 
     }
 
     public static ValidatorService getDefault() {
-        if (instance == null) {
-            instance = new ValidatorService();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     private BuilderInterface getBuilder(String builderName) {
@@ -50,4 +45,13 @@ public class ValidatorService {
         }
         return validator;
     }
+
+    /**
+     * Contenedor de la unica instancia del servicio, inicializada de forma
+     * segura entre hilos la primera vez que es solicitada.
+     */
+    private static final class Holder {
+
+        private static final ValidatorService INSTANCE = new ValidatorService();
+    }
 }
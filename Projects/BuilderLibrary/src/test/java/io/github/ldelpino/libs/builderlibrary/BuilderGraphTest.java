@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary;
+
+import java.util.TreeSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la construccion de grafos de constructores con
+ * {@link BuilderGraph}.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class BuilderGraphTest {
+
+    /**
+     * Verifica que los constructores compartidos se construyen una unica vez y
+     * sus instancias se reutilizan en todo el grafo.
+     */
+    @Test
+    public void testBuildSharedDependencies() throws Exception {
+        NodeBuilder shared = new NodeBuilder("shared");
+        NodeBuilder left = new NodeBuilder("left");
+        NodeBuilder right = new NodeBuilder("right");
+        NodeBuilder root = new NodeBuilder("root");
+        left.putProperty("s", shared);
+        right.putProperty("s", shared);
+        root.putProperty("l", left);
+        root.putProperty("r", right);
+        assertEquals("root(left(shared()),right(shared()))", new BuilderGraph<>(root).build());
+        assertEquals(1, shared.builds);
+    }
+
+    /**
+     * Verifica que un grafo con un ciclo no se construye.
+     */
+    @Test
+    public void testBuildCycle() throws Exception {
+        NodeBuilder first = new NodeBuilder("first");
+        NodeBuilder second = new NodeBuilder("second");
+        first.putProperty("next", second);
+        second.putProperty("next", first);
+        InstanceBuildException ex = assertThrows(InstanceBuildException.class,
+                () -> new BuilderGraph<>(first).build());
+        assertTrue(ex.getCause().getMessage().contains("cycle"));
+        assertEquals(0, first.builds + second.builds);
+    }
+
+    /**
+     * Verifica que una cadena de constructores mas profunda que la pila del
+     * hilo se recorre y construye, y que el ciclo al cerrar la cadena se
+     * detecta.
+     */
+    @Test
+    public void testBuildDeepChain() throws Exception {
+        int depth = 100_000;
+        ChainBuilder first = new ChainBuilder();
+        ChainBuilder last = first;
+        for (int i = 1; i < depth; i++) {
+            ChainBuilder next = new ChainBuilder();
+            last.putProperty("next", next);
+            last = next;
+        }
+        assertEquals(Integer.valueOf(depth - 1), new BuilderGraph<>(first).build());
+        last.putProperty("next", first);
+        assertThrows(InstanceBuildException.class, () -> new BuilderGraph<>(first).build());
+    }
+
+    /**
+     * Constructor de prueba que construye la representacion textual de sus
+     * dependencias.
+     */
+    static class NodeBuilder extends BuilderPattern<String> {
+
+        private final String name;
+
+        private volatile int builds;
+
+        NodeBuilder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getBuilderName() {
+            return name;
+        }
+
+        @Override
+        protected String buildInstance() throws InstanceBuildException {
+            StringBuilder instance = new StringBuilder(name).append('(');
+            String separator = "";
+            for (String key : new TreeSet<>(getPropertyKeys())) {
+                instance.append(separator).append(getBuiltValue(key));
+                separator = ",";
+            }
+            builds++;
+            return instance.append(')').toString();
+        }
+    }
+
+    /**
+     * Constructor de prueba que construye la cantidad de constructores que le
+     * siguen en la cadena.
+     */
+    static class ChainBuilder extends BuilderPattern<Integer> {
+
+        @Override
+        public String getBuilderName() {
+            return "chain";
+        }
+
+        @Override
+        protected Integer buildInstance() throws InstanceBuildException {
+            Object next = getBuiltValue("next");
+            return next != null ? (Integer) next + 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary;
+
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.InvalidPropertyException;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyValidator;
+import io.github.ldelpino.libs.builderlibrary.service.BuilderService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la validacion paralela de propiedades y de las copias de trabajo
+ * de {@link BuilderPattern}.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class BuilderPatternTest {
+
+    /**
+     * Verifica que los errores de la validacion paralela se agregan en una
+     * unica excepcion cuya causa es el error original del validador.
+     */
+    @Test
+    public void testParallelValidationAggregatesFailures() throws Exception {
+        PropertyValidator<Object> invalid = value -> {
+            throw new InvalidPropertyException("Error, invalid value " + value + ".",
+                    new Throwable("The value is not allowed."));
+        };
+        TestBuilder builder = new TestBuilder();
+        builder.setParallelValidation(ForkJoinPool.commonPool(), 0, TimeUnit.SECONDS);
+        builder.putProperty(new BuilderProperty<>("x", 1, invalid));
+        builder.putProperty(new BuilderProperty<>("y", 2, invalid));
+        InstanceBuildException ex = assertThrows(InstanceBuildException.class, builder::build);
+        assertInstanceOf(InvalidPropertyException.class, ex.getCause());
+        assertEquals(1, ex.getSuppressed().length);
+        assertInstanceOf(InvalidPropertyException.class, ex.getSuppressed()[0]);
+    }
+
+    /**
+     * Verifica que la validacion paralela falla al superar el tiempo maximo de
+     * espera sin esperar a los validadores pendientes.
+     */
+    @Test
+    public void testParallelValidationTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TestBuilder builder = new TestBuilder();
+        builder.setParallelValidation(ForkJoinPool.commonPool(), 50, TimeUnit.MILLISECONDS);
+        builder.putProperty(new BuilderProperty<>("slow", 1, value -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        long start = System.nanoTime();
+        try {
+            assertThrows(InstanceBuildException.class, builder::build);
+        } finally {
+            release.countDown();
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+    }
+
+    /**
+     * Verifica que la sobrescritura de una propiedad heredada en una copia de
+     * trabajo mantiene el tipo de dato y el validador de la propiedad
+     * heredada.
+     */
+    @Test
+    public void testWorkingCopyOverrideKeepsValidator() throws Exception {
+        String name = "override-" + System.nanoTime();
+        TestBuilder prototype = new TestBuilder();
+        prototype.putProperty(new BuilderProperty<String, Object>("amount", 5, Integer.class, value -> {
+            if ((Integer) value < 0) {
+                throw new InvalidPropertyException("Error, negative amount.",
+                        new Throwable("The amount cannot be negative."));
+            }
+        }));
+        BuilderService.getDefault().putBuilder(name, prototype);
+        try {
+            BuilderInterface<?> copy = BuilderService.getDefault().acquire(name);
+            assertThrows(InvalidPropertyException.class, () -> copy.putProperty("amount", -1));
+            assertThrows(InvalidPropertyException.class, () -> copy.upsertProperty("amount", -2));
+            copy.putProperty("amount", "12");
+            assertEquals(12, copy.getProperty("amount").getValue());
+            assertSame(prototype.getProperty("amount").getPropertyValidator(),
+                    copy.getProperty("amount").getPropertyValidator());
+            assertEquals(5, prototype.getProperty("amount").getValue());
+        } finally {
+            BuilderService.getDefault().removeBuilder(name);
+        }
+    }
+
+    /**
+     * Verifica que una copia de trabajo comparte el mapa de propiedades de su
+     * prototipo hasta su primera modificacion y que las propiedades compartidas
+     * no pueden ser modificadas a traves de la copia de trabajo.
+     */
+    @Test
+    public void testWorkingCopySharesPropertiesUntilWrite() throws Exception {
+        TestBuilder prototype = new TestBuilder();
+        prototype.putProperty("name", "prototype");
+        prototype.putProperty("amount", 5);
+        prototype.freeze();
+        BuilderPattern<?> copy = prototype.newWorkingCopy();
+        assertTrue(copy.isSharingProperties());
+        assertSame(prototype.getProperties(), copy.getProperties());
+        assertThrows(IllegalStateException.class, () -> copy.getProperty("amount").setValue(7));
+        assertEquals(5, prototype.getProperty("amount").getValue());
+        assertNull(copy.removeProperty("missing"));
+        assertTrue(copy.isSharingProperties());
+        copy.putProperty("amount", 7);
+        assertFalse(copy.isSharingProperties());
+        assertEquals(7, copy.getProperty("amount").getValue());
+        assertEquals(5, prototype.getProperty("amount").getValue());
+        assertSame(prototype.getProperty("name"), copy.getProperty("name"));
+        copy.reset();
+        assertTrue(copy.isSharingProperties());
+        assertEquals(5, copy.getProperty("amount").getValue());
+    }
+
+    /**
+     * Verifica que las propiedades cargadas desde una instancia conservan el
+     * validador y el tipo de dato de las propiedades heredadas del prototipo.
+     */
+    @Test
+    public void testLoadedPropertiesKeepValidator() throws Exception {
+        String name = "loaded-" + System.nanoTime();
+        TestBuilder prototype = new TestBuilder();
+        prototype.putProperty(new BuilderProperty<String, Object>("amount", 5, Integer.class, value -> {
+            if ((Integer) value < 0) {
+                throw new InvalidPropertyException("Error, negative amount.",
+                        new Throwable("The amount cannot be negative."));
+            }
+        }));
+        BuilderService.getDefault().putBuilder(name, prototype);
+        try {
+            BuilderInterface<?> copy = BuilderService.getDefault().toBuilder(name, new Amount(7));
+            assertThrows(InvalidPropertyException.class, () -> copy.upsertProperty("amount", -1));
+            assertThrows(InvalidPropertyException.class, () -> copy.replaceProperty("amount", "-2"));
+            assertEquals(7, copy.getProperty("amount").getValue());
+            BuilderInterface<?> invalid = BuilderService.getDefault().toBuilder(name, new Amount(-3));
+            assertThrows(InstanceBuildException.class, invalid::build);
+        } finally {
+            BuilderService.getDefault().removeBuilder(name);
+        }
+    }
+
+    /**
+     * Verifica que las excepciones no comprobadas de la creacion de la
+     * instancia completan la construccion asincrona con una excepcion
+     * {@link InstanceBuildException}.
+     */
+    @Test
+    public void testBuildAsyncFailure() {
+        IllegalStateException failure = new IllegalStateException("Missing data.");
+        FailingBuilder builder = new FailingBuilder(failure);
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> builder.buildAsync().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InstanceBuildException.class, ex.getCause());
+        assertSame(failure, ex.getCause().getCause());
+        InstanceBuildException sync = assertThrows(InstanceBuildException.class, builder::build);
+        assertSame(failure, sync.getCause());
+        IOException io = new IOException("Unreachable source.");
+        InstanceBuildException unchecked = assertThrows(InstanceBuildException.class,
+                new FailingBuilder(new UncheckedIOException(io))::build);
+        assertSame(io, unchecked.getCause());
+        assertEquals("Error, instance creation failed.", unchecked.getMessage());
+    }
+
+    /**
+     * Instancia de prueba cargada a traves de sus metodos de acceso.
+     */
+    public static class Amount {
+
+        private final int amount;
+
+        public Amount(int amount) {
+            this.amount = amount;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+    }
+
+    /**
+     * Constructor de prueba que construye la representacion textual de sus
+     * propiedades, sin parametros para permitir sus copias de trabajo.
+     */
+    static class TestBuilder extends BuilderPattern<String> {
+
+        @Override
+        public String getBuilderName() {
+            return "test";
+        }
+
+        @Override
+        protected String buildInstance() {
+            return getMapProperties().toString();
+        }
+    }
+
+    /**
+     * Constructor de prueba cuya creacion de instancias siempre falla.
+     */
+    static class FailingBuilder extends BuilderPattern<String> {
+
+        private final RuntimeException failure;
+
+        FailingBuilder(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public String getBuilderName() {
+            return "failing";
+        }
+
+        @Override
+        protected String buildInstance() {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la validacion de arreglos de {@link IntBatchValidator}.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class IntBatchValidatorTest {
+
+    /**
+     * Verifica que un rango combinado con una mascara de bits solo acepta los
+     * valores aceptados por ambos validadores, tanto en arreglos como en
+     * valores individuales.
+     */
+    @Test
+    public void testRangeAndBitmask() throws Exception {
+        IntBatchValidator validator = IntBatchValidator.range(0, 100).and(IntBatchValidator.bitmask(0x0E));
+        int[] values = {2, 3, 14, 16, -2, 8, 110};
+        assertArrayEquals(new int[]{1, 3, 4, 6}, validator.validateBatch(values));
+        assertArrayEquals(new int[]{3}, validator.validateBatch(values, 2, 4));
+        validator.validate(12);
+        assertThrows(InvalidPropertyException.class, () -> validator.validate(13));
+        assertThrows(InvalidPropertyException.class, () -> validator.validate(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> validator.validateBatch(values, 3, 8));
+        assertThrows(IllegalArgumentException.class,
+                () -> IntBatchValidator.range(0, 10).and(IntBatchValidator.range(20, 30)));
+    }
+}
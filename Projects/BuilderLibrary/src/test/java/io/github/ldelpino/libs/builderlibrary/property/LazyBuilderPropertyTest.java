@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas del calculo diferido de los valores de {@link LazyBuilderProperty}.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class LazyBuilderPropertyTest {
+
+    /**
+     * Verifica que cada solicitud de un valor no valido lanza una nueva
+     * excepcion cuya causa es el error almacenado, calculando el valor una
+     * unica vez.
+     */
+    @Test
+    public void testStoredFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyBuilderProperty<String, Integer> property = new LazyBuilderProperty<>("amount", () -> {
+            calls.incrementAndGet();
+            return -1;
+        }, value -> {
+            if (value < 0) {
+                throw new InvalidPropertyException("Error, negative amount.",
+                        new Throwable("The amount cannot be negative."));
+            }
+        });
+        InvalidPropertyException first = assertThrows(InvalidPropertyException.class, property::materialize);
+        first.addSuppressed(new Exception("caller state"));
+        InvalidPropertyException second = assertThrows(InvalidPropertyException.class, property::validate);
+        assertNotSame(first, second);
+        assertSame(first.getCause(), second.getCause());
+        assertEquals(0, second.getSuppressed().length);
+        assertEquals(1, calls.get());
+    }
+}
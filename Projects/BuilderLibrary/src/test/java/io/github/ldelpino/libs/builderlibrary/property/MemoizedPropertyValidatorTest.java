@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.property;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas del almacenamiento de resultados de {@link MemoizedPropertyValidator}.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class MemoizedPropertyValidatorTest {
+
+    /**
+     * Verifica que los errores almacenados se lanzan como nuevas excepciones
+     * que conservan el mensaje y la causa del error original.
+     */
+    @Test
+    public void testCachedFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        PropertyValidator<String> validator = MemoizedPropertyValidator.of(new PropertyValidator<String>() {
+            @Override
+            public void validate(String value) throws InvalidPropertyException {
+                calls.incrementAndGet();
+                if (value.isEmpty()) {
+                    throw new InvalidPropertyException("Error, empty value.",
+                            new Throwable("The value cannot be empty."));
+                }
+            }
+
+            @Override
+            public boolean isPure() {
+                return true;
+            }
+        }, 16);
+        InvalidPropertyException first = assertThrows(InvalidPropertyException.class,
+                () -> validator.validate(""));
+        first.addSuppressed(new Exception("caller state"));
+        InvalidPropertyException second = assertThrows(InvalidPropertyException.class,
+                () -> validator.validate(""));
+        assertNotSame(first, second);
+        assertEquals(first.getMessage(), second.getMessage());
+        assertEquals("The value cannot be empty.", second.getCause().getMessage());
+        assertEquals(0, second.getSuppressed().length);
+        assertEquals(1, calls.get());
+    }
+
+    /**
+     * Verifica que los validadores que no son puros no se almacenan.
+     */
+    @Test
+    public void testImpureValidator() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        PropertyValidator<String> validator = MemoizedPropertyValidator.of(value -> calls.incrementAndGet(), 16);
+        validator.validate("a");
+        validator.validate("a");
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * Verifica que la cantidad de resultados almacenados no supera el limite
+     * cuando varios hilos validan valores diferentes.
+     */
+    @Test
+    public void testConcurrentBound() throws Exception {
+        MemoizedPropertyValidator<Integer> validator = new MemoizedPropertyValidator<>(
+                new PropertyValidator<Integer>() {
+            @Override
+            public void validate(Integer value) {
+            }
+
+            @Override
+            public boolean isPure() {
+                return true;
+            }
+        }, 8);
+        AtomicInteger largest = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int base = t * 10_000;
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        validator.validate(base + i);
+                        largest.accumulateAndGet(validator.size(), Math::max);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(largest.get() <= 8, "The maximum size was exceeded: " + largest.get());
+        assertEquals(8, validator.size());
+    }
+}
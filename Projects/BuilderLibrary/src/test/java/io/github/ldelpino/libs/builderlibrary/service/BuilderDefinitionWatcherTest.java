@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.service;
+
+import io.github.ldelpino.libs.builderlibrary.BuilderInterface;
+import io.github.ldelpino.libs.builderlibrary.BuilderPattern;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la recarga de definiciones de {@link BuilderDefinitionWatcher}.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class BuilderDefinitionWatcherTest {
+
+    /**
+     * Verifica que las definiciones se cargan al iniciar la observacion, se
+     * recargan al ser modificadas y se remueven al ser eliminadas.
+     */
+    @Test
+    public void testReload() throws Exception {
+        BuilderService service = BuilderService.getDefault();
+        String name = "watched-" + System.nanoTime();
+        Path directory = Files.createTempDirectory("definitions");
+        Path file = directory.resolve(name + ".properties");
+        Files.writeString(file, definition(18));
+        try (BuilderDefinitionWatcher watcher = service.watchDefinitions(directory)) {
+            assertEquals("{age=18}", service.acquire(name).build());
+            BuilderInterface<?> loaded = service.getBuilder(name);
+            Files.writeString(file, definition(21));
+            await(() -> service.getBuilder(name) != loaded && watcher.getReloadCount() > 0);
+            assertEquals("{age=21}", service.acquire(name).build());
+            assertTrue(watcher.getReloadCount() > 0);
+            assertNull(watcher.getLastFailure());
+            Files.delete(file);
+            await(() -> service.getBuilder(name) == null);
+            assertNull(watcher.getLastFailure());
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+            service.removeBuilder(name);
+        }
+    }
+
+    private static String definition(int age) {
+        return "builder.class=" + TestBuilder.class.getName() + "\nproperty.age=" + age
+                + "\ntype.age=java.lang.Integer\n";
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(condition.getAsBoolean(), "The definitions were not reloaded.");
+    }
+
+    /**
+     * Constructor de prueba cargado desde los archivos de definiciones.
+     */
+    public static class TestBuilder extends BuilderPattern<String> {
+
+        @Override
+        public String getBuilderName() {
+            return "watched";
+        }
+
+        @Override
+        protected String buildInstance() {
+            return getMapProperties().toString();
+        }
+    }
+}
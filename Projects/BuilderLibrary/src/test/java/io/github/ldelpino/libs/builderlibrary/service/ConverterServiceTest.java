@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.service;
+
+import io.github.ldelpino.libs.builderlibrary.property.InvalidPropertyException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de los convertidores de {@link ConverterService}.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class ConverterServiceTest {
+
+    private final ConverterService converters = ConverterService.getDefault();
+
+    /**
+     * Verifica las conversiones incluidas en el servicio.
+     */
+    @Test
+    public void testDefaultConverters() throws Exception {
+        assertEquals(42, converters.convert(" 42 ", int.class));
+        assertEquals(7L, converters.convert("7", Long.class));
+        assertEquals(Boolean.TRUE, converters.convert(" TRUE", boolean.class));
+        assertEquals(Boolean.FALSE, converters.convert("false", Boolean.class));
+        assertEquals(Duration.ofSeconds(1), converters.convert("PT1S", Duration.class));
+        assertEquals(TimeUnit.SECONDS, converters.convert("SECONDS", TimeUnit.class));
+        assertNull(converters.convert(null, Integer.class));
+    }
+
+    /**
+     * Verifica que los valores que no pueden ser convertidos son rechazados.
+     */
+    @Test
+    public void testInvalidValues() {
+        assertThrows(InvalidPropertyException.class, () -> converters.convert("ture", Boolean.class));
+        assertThrows(InvalidPropertyException.class, () -> converters.convert("yes", boolean.class));
+        assertThrows(InvalidPropertyException.class, () -> converters.convert("x", int.class));
+        assertThrows(InvalidPropertyException.class, () -> converters.convert(1, Duration.class));
+    }
+
+    /**
+     * Verifica que los convertidores resueltos se descartan al sustituir un
+     * convertidor.
+     */
+    @Test
+    public void testReplaceConverter() throws Exception {
+        converters.putConverter(String.class, StringBuilder.class, value -> new StringBuilder("first"));
+        assertEquals("first", converters.convert("x", StringBuilder.class).toString());
+        converters.putConverter(String.class, StringBuilder.class, value -> new StringBuilder("second"));
+        assertEquals("second", converters.convert("x", StringBuilder.class).toString());
+    }
+}
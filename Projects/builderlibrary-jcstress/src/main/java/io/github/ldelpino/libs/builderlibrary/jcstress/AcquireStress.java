@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.jcstress;
+
+import io.github.ldelpino.libs.builderlibrary.BuilderInterface;
+import io.github.ldelpino.libs.builderlibrary.BuilderPattern;
+import io.github.ldelpino.libs.builderlibrary.service.BuilderService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZZ_Result;
+
+/**
+ * Verifica que las copias de trabajo obtenidas desde varios hilos sean
+ * independientes entre si y no modifiquen al prototipo.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@JCStressTest
+@Outcome(id = "true, true, true", expect = Expect.ACCEPTABLE, desc = "Independent working copies.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Working copies interfere with each other or the prototype.")
+@State
+public class AcquireStress {
+
+    /**
+     * El nombre es fijo dado que las copias de trabajo se mantienen
+     * almacenadas por nombre en cada hilo.
+     */
+    private static final String NAME = "acquire-stress";
+
+    private static final StressBuilder PROTOTYPE = new StressBuilder();
+
+    static {
+        try {
+            PROTOTYPE.putProperty("value", 0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        BuilderService.getDefault().putBuilder(NAME, PROTOTYPE);
+    }
+
+    private Object value1;
+
+    private Object value2;
+
+    @Actor
+    public void actor1() throws Exception {
+        BuilderInterface copy = BuilderService.getDefault().acquire(NAME);
+        ((BuilderPattern) copy).upsertProperty("value", 1);
+        value1 = copy.build();
+    }
+
+    @Actor
+    public void actor2() throws Exception {
+        BuilderInterface copy = BuilderService.getDefault().acquire(NAME);
+        ((BuilderPattern) copy).upsertProperty("value", 2);
+        value2 = copy.build();
+    }
+
+    @Arbiter
+    public void arbiter(ZZZ_Result r) {
+        r.r1 = String.valueOf(value1).equals("{value=1}");
+        r.r2 = String.valueOf(value2).equals("{value=2}");
+        r.r3 = Integer.valueOf(0).equals(PROTOTYPE.getProperty("value").getValue());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.jcstress;
+
+import io.github.ldelpino.libs.builderlibrary.property.LazyBuilderProperty;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+/**
+ * Verifica que el valor de una propiedad diferida se calcule una unica vez y
+ * se observe completamente inicializado cuando es solicitado desde varios
+ * hilos.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@JCStressTest
+@Outcome(id = "42, 42, 1", expect = Expect.ACCEPTABLE, desc = "Computed once and visible to both threads.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Computed twice or observed before initialization.")
+@State
+public class LazyPropertyStress {
+
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private final LazyBuilderProperty<String, int[]> property = new LazyBuilderProperty<>("value", () -> {
+        computations.incrementAndGet();
+        return new int[]{42};
+    });
+
+    @Actor
+    public void actor1(III_Result r) {
+        r.r1 = property.getValue()[0];
+    }
+
+    @Actor
+    public void actor2(III_Result r) {
+        r.r2 = property.getValue()[0];
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        r.r3 = computations.get();
+    }
+}
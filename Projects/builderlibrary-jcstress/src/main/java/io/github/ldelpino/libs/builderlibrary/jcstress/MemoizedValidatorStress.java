@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.jcstress;
+
+import io.github.ldelpino.libs.builderlibrary.property.InvalidPropertyException;
+import io.github.ldelpino.libs.builderlibrary.property.MemoizedPropertyValidator;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyValidator;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * Verifica que los resultados almacenados por un validador con memoria sean
+ * consistentes cuando el mismo valor es validado desde varios hilos.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@JCStressTest
+@Outcome(id = "true, true", expect = Expect.ACCEPTABLE, desc = "Both threads see the same outcomes.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A cached outcome was lost or inverted.")
+@State
+public class MemoizedValidatorStress {
+
+    private final MemoizedPropertyValidator<String> validator
+            = new MemoizedPropertyValidator<>(new PureValidator(), 1);
+
+    @Actor
+    public void actor1(ZZ_Result r) {
+        r.r1 = accepts("CU") && !accepts("XX");
+    }
+
+    @Actor
+    public void actor2(ZZ_Result r) {
+        r.r2 = accepts("CU") && !accepts("XX");
+    }
+
+    private boolean accepts(String value) {
+        try {
+            validator.validate(value);
+            return true;
+        } catch (InvalidPropertyException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Validador puro que solo acepta el valor {@code CU}.
+     */
+    private static final class PureValidator implements PropertyValidator<String> {
+
+        @Override
+        public void validate(String value) throws InvalidPropertyException {
+            if (!"CU".equals(value)) {
+                throw new InvalidPropertyException("Invalid country code: " + value);
+            }
+        }
+
+        @Override
+        public boolean isPure() {
+            return true;
+        }
+    }
+}
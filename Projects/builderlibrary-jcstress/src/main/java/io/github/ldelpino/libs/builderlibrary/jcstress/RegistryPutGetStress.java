@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.jcstress;
+
+import io.github.ldelpino.libs.builderlibrary.BuilderInterface;
+import io.github.ldelpino.libs.builderlibrary.BuilderPattern;
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.service.BuilderService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+/**
+ * Verifica que un constructor obtenido del registro mientras es agregado se
+ * observe completamente inicializado.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@JCStressTest
+@Outcome(id = "0", expect = Expect.ACCEPTABLE, desc = "The builder is not registered yet.")
+@Outcome(id = "1", expect = Expect.ACCEPTABLE, desc = "The registered builder is fully visible.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "The registered builder is partially visible.")
+@State
+public class RegistryPutGetStress {
+
+    private final String name = StressBuilder.uniqueName("get");
+
+    @Actor
+    public void writer() throws Exception {
+        StressBuilder builder = new StressBuilder();
+        builder.putProperty("value", 42);
+        BuilderService.getDefault().putBuilder(name, builder);
+    }
+
+    @Actor
+    public void reader(I_Result r) {
+        BuilderInterface builder = BuilderService.getDefault().getBuilder(name);
+        if (builder == null) {
+            r.r1 = 0;
+            return;
+        }
+        BuilderProperty property = builder.getProperty("value");
+        boolean visible = property != null && Integer.valueOf(42).equals(property.getValue())
+                && ((BuilderPattern) builder).isFrozen();
+        r.r1 = visible ? 1 : -1;
+    }
+
+    @Arbiter
+    public void arbiter() {
+        BuilderService.getDefault().removeBuilder(name);
+    }
+}
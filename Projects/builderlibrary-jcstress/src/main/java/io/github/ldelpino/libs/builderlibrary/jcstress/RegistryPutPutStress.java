@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.jcstress;
+
+import io.github.ldelpino.libs.builderlibrary.service.BuilderService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * Verifica que dos constructores agregados de forma concurrente al registro
+ * no se pierdan.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@JCStressTest
+@Outcome(id = "true, true", expect = Expect.ACCEPTABLE, desc = "Both registrations are visible.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A concurrent registration was lost.")
+@State
+public class RegistryPutPutStress {
+
+    private final String name1 = StressBuilder.uniqueName("put");
+
+    private final String name2 = StressBuilder.uniqueName("put");
+
+    private final StressBuilder builder1 = new StressBuilder();
+
+    private final StressBuilder builder2 = new StressBuilder();
+
+    @Actor
+    public void actor1() {
+        BuilderService.getDefault().putBuilder(name1, builder1);
+    }
+
+    @Actor
+    public void actor2() {
+        BuilderService.getDefault().putBuilder(name2, builder2);
+    }
+
+    @Arbiter
+    public void arbiter(ZZ_Result r) {
+        BuilderService service = BuilderService.getDefault();
+        r.r1 = service.getBuilder(name1) == builder1;
+        r.r2 = service.getBuilder(name2) == builder2;
+        service.removeBuilder(name1);
+        service.removeBuilder(name2);
+    }
+}
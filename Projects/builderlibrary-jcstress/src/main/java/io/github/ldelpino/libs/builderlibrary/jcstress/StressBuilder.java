@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.jcstress;
+
+import io.github.ldelpino.libs.builderlibrary.BuilderPattern;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Constructor de instancias utilizado por las pruebas de concurrencia, crea
+ * mapas con las llaves y valores de sus propiedades.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+public class StressBuilder extends BuilderPattern<Map<String, Object>> {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Devuelve un nombre de constructor unico, de forma que cada estado de una
+     * prueba utilice sus propias entradas en los servicios globales.
+     *
+     * @param prefix el prefijo del nombre.
+     * @return el nuevo nombre unico.
+     */
+    public static String uniqueName(String prefix) {
+        return prefix + "-" + SEQUENCE.incrementAndGet();
+    }
+
+    @Override
+    public String getBuilderName() {
+        return "stress";
+    }
+
+    @Override
+    protected Map<String, Object> buildInstance() {
+        return getMapProperties();
+    }
+}
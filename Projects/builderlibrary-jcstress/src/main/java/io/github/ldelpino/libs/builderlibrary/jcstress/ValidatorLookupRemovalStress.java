@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2023 ldelpino
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.ldelpino.libs.builderlibrary.jcstress;
+
+import io.github.ldelpino.libs.builderlibrary.property.BuilderProperty;
+import io.github.ldelpino.libs.builderlibrary.property.PropertyValidator;
+import io.github.ldelpino.libs.builderlibrary.service.BuilderService;
+import io.github.ldelpino.libs.builderlibrary.service.ValidatorService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+/**
+ * Verifica la busqueda de validadores en el servicio de validadores mientras
+ * el constructor que los contiene es removido del registro.
+ *
+ * @author ldelpino
+ * @version 1.0-SNAPSHOT
+ * @since jdk-18.0.2
+ */
+@JCStressTest
+@Outcome(id = "0", expect = Expect.ACCEPTABLE, desc = "The builder was already removed.")
+@Outcome(id = "1", expect = Expect.ACCEPTABLE, desc = "The validator was found before removal.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "The lookup failed or returned a foreign validator.")
+@State
+public class ValidatorLookupRemovalStress {
+
+    private final String name = StressBuilder.uniqueName("validator");
+
+    private final PropertyValidator<Object> validator = value -> {
+    };
+
+    public ValidatorLookupRemovalStress() {
+        StressBuilder builder = new StressBuilder();
+        try {
+            builder.putProperty(new BuilderProperty<>("value", 1, validator));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        BuilderService.getDefault().putBuilder(name, builder);
+    }
+
+    @Actor
+    public void remover() {
+        BuilderService.getDefault().removeBuilder(name);
+    }
+
+    @Actor
+    public void reader(I_Result r) {
+        try {
+            PropertyValidator found = ValidatorService.getDefault().getValidator(name, "value");
+            r.r1 = found == null ? 0 : found == validator ? 1 : -1;
+        } catch (RuntimeException ex) {
+            r.r1 = -2;
+        }
+    }
+}